@@ -19,7 +19,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "medication_alarms")
+@Table(
+        name = "medication_alarms",
+        indexes = {
+            @Index(
+                    name = "idx_alarm_day_medication_time",
+                    columnList = "day_of_week, medication_id, dose_time")
+        })
 @SQLDelete(sql = "UPDATE medication_alarms SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 public class Alarm extends BaseEntity {
@@ -20,4 +20,17 @@ public enum DayOfWeek {
         }
         return requestDays.contains(DAILY) ? List.copyOf(ALL_DAYS) : List.copyOf(requestDays);
     }
+
+    /** Java DayOfWeek를 도메인 DayOfWeek로 변환 */
+    public static DayOfWeek from(java.time.DayOfWeek javaDayOfWeek) {
+        return switch (javaDayOfWeek) {
+            case MONDAY -> MON;
+            case TUESDAY -> TUE;
+            case WEDNESDAY -> WED;
+            case THURSDAY -> THU;
+            case FRIDAY -> FRI;
+            case SATURDAY -> SAT;
+            case SUNDAY -> SUN;
+        };
+    }
 }
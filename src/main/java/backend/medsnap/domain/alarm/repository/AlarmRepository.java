@@ -1,7 +1,9 @@
 package backend.medsnap.domain.alarm.repository;
 
+import java.time.LocalTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -38,6 +40,10 @@ public interface AlarmRepository extends JpaRepository<Alarm, Long> {
             "UPDATE Alarm a SET a.deletedAt = CURRENT_TIMESTAMP WHERE a.medication.id = :medicationId")
     void softDeleteByMedicationId(@Param("medicationId") Long medicationId);
 
+    /** 특정 약의 삭제되지 않은 알람 조회 */
+    @Query("SELECT a FROM Alarm a WHERE a.medication.id = :medicationId AND a.deletedAt IS NULL")
+    List<Alarm> findActiveByMedicationId(@Param("medicationId") Long medicationId);
+
     /** 특정 사용자의 특정 요일 알람 조회 */
     @Query(
             """
@@ -50,14 +56,38 @@ public interface AlarmRepository extends JpaRepository<Alarm, Long> {
     List<Alarm> findByUserAndDay(
             @Param("userId") Long userId, @Param("dayOfWeek") DayOfWeek dayOfWeek);
 
-    /** 스케줄러용: 특정 요일의 모든 알람 조회 */
+    /** 스케줄러용: 특정 시간대 사용자의 특정 요일 알람 전체 조회 */
+    @Query(
+            """
+        SELECT a FROM Alarm a
+        JOIN FETCH a.medication m
+        JOIN FETCH m.user u
+        WHERE a.dayOfWeek = :dayOfWeek
+        AND u.timeZone = :timeZone
+        ORDER BY m.id, a.doseTime ASC
+        """)
+    List<Alarm> findAllByDayOfWeek(
+            @Param("dayOfWeek") DayOfWeek dayOfWeek, @Param("timeZone") String timeZone);
+
+    /** 스케줄러용: 특정 시간대·요일·샤드의 알람을 (약 ID, 복용 시간) 키셋 기준으로 페이지 조회 (샤드는 사용자 ID 기준) */
     @Query(
             """
         SELECT a FROM Alarm a
         JOIN FETCH a.medication m
         JOIN FETCH m.user u
         WHERE a.dayOfWeek = :dayOfWeek
+        AND u.timeZone = :timeZone
+        AND MOD(u.id, :shardCount) = :shardNo
+        AND (m.id > :lastMedicationId
+            OR (m.id = :lastMedicationId AND a.doseTime > :lastDoseTime))
         ORDER BY m.id, a.doseTime ASC
         """)
-    List<Alarm> findAllByDayOfWeek(@Param("dayOfWeek") DayOfWeek dayOfWeek);
+    List<Alarm> findPageByDayOfWeekAfter(
+            @Param("dayOfWeek") DayOfWeek dayOfWeek,
+            @Param("timeZone") String timeZone,
+            @Param("shardNo") int shardNo,
+            @Param("shardCount") int shardCount,
+            @Param("lastMedicationId") Long lastMedicationId,
+            @Param("lastDoseTime") LocalTime lastDoseTime,
+            Pageable pageable);
 }
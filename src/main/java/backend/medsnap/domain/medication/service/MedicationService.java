@@ -18,6 +18,7 @@ import backend.medsnap.domain.medication.exception.InvalidMedicationDataExceptio
 import backend.medsnap.domain.medication.exception.MedicationNotFoundException;
 import backend.medsnap.domain.medication.repository.MedicationRepository;
 import backend.medsnap.domain.medicationRecord.service.MedicationRecordService;
+import backend.medsnap.domain.notification.service.NotificationService;
 import backend.medsnap.domain.user.entity.User;
 import backend.medsnap.domain.user.exception.UserNotFoundException;
 import backend.medsnap.domain.user.repository.UserRepository;
@@ -37,6 +38,7 @@ public class MedicationService {
     private final S3Service s3Service;
     private final AlarmService alarmService;
     private final MedicationRecordService medicationRecordService;
+    private final NotificationService notificationService;
 
     @Transactional
     public MedicationResponse createMedication(
@@ -81,6 +83,9 @@ public class MedicationService {
         // 오늘 등록한 약의 경우 당일 복약 기록 생성
         medicationRecordService.createTodayRecordsForMedication(savedMedication);
 
+        // 미리 생성된 기간(horizon)의 복약 기록 생성
+        medicationRecordService.syncHorizonRecordsForMedication(savedMedication);
+
         // response 반환
         return toResponse(savedMedication);
     }
@@ -151,6 +156,12 @@ public class MedicationService {
             }
         }
 
+        // 없어진 알람 슬롯과 꺼진 사전 알림의 대기 알림 취소 (복약 기록 정리 전에 수행)
+        notificationService.cancelStaleMedicationNotifications(medicationId);
+
+        // 변경된 알람에 맞게 미리 생성된 기간(horizon)의 복약 기록 정리
+        medicationRecordService.syncHorizonRecordsForMedication(updatedMedication);
+
         return toResponse(updatedMedication);
     }
 
@@ -173,6 +184,12 @@ public class MedicationService {
         medication.softDelete();
         log.info("약 ID: {} 및 관련 알람 {}개가 소프트딜리트되었습니다.", medicationId, alarmCount);
 
+        // 삭제된 약의 대기 알림 취소 (복약 기록 정리 전에 수행)
+        notificationService.cancelStaleMedicationNotifications(medicationId);
+
+        // 미리 생성된 기간(horizon)의 복약 기록 정리
+        medicationRecordService.syncHorizonRecordsForMedication(medication);
+
         // S3 이미지 삭제
         deleteMedicationImage(medication);
     }
@@ -206,6 +223,12 @@ public class MedicationService {
 
             deleteMedicationImage(medication);
         }
+
+        // 삭제된 알람 슬롯(또는 삭제된 약)의 대기 알림 취소 (복약 기록 정리 전에 수행)
+        notificationService.cancelStaleMedicationNotifications(medicationId);
+
+        // 미리 생성된 기간(horizon)의 복약 기록 정리
+        medicationRecordService.syncHorizonRecordsForMedication(medication);
     }
 
     /** 약 이름 중복 검증 */
@@ -0,0 +1,39 @@
+package backend.medsnap.domain.medicationRecord.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import backend.medsnap.domain.medicationRecord.dto.request.RecordBackfillRequest;
+import backend.medsnap.domain.medicationRecord.dto.response.RecordBackfillResponse;
+import backend.medsnap.global.dto.ApiResponse;
+import backend.medsnap.scheduler.RecordCatchUpService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/admin/medication-records")
+@RequiredArgsConstructor
+public class RecordMaterializationAdminController implements RecordMaterializationAdminSwagger {
+
+    private final RecordCatchUpService recordCatchUpService;
+
+    /** 기간 내 복약 기록 재생성 (비동기) */
+    @Override
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<RecordBackfillResponse>> backfill(
+            @Valid @RequestBody RecordBackfillRequest request) {
+        int days = recordCatchUpService.backfill(request.getStartDate(), request.getEndDate());
+
+        RecordBackfillResponse response =
+                RecordBackfillResponse.builder()
+                        .startDate(request.getStartDate())
+                        .endDate(request.getEndDate())
+                        .days(days)
+                        .build();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(HttpStatus.ACCEPTED, response));
+    }
+}
@@ -0,0 +1,80 @@
+package backend.medsnap.domain.medicationRecord.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import backend.medsnap.domain.medicationRecord.dto.request.RecordBackfillRequest;
+import backend.medsnap.domain.medicationRecord.dto.response.RecordBackfillResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "admin-medication-records", description = "복약 기록 생성 관리자 API")
+public interface RecordMaterializationAdminSwagger {
+
+    @Operation(
+            summary = "복약 기록 재생성",
+            description =
+                    "기간 내 날짜의 복약 예정 기록과 알림을 다시 생성합니다. 처리는 비동기로 진행되며 이미 존재하는 기록은 건너뜁니다. (ADMIN 전용)")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "재생성 기간",
+            content = @Content(mediaType = "application/json"))
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "202",
+                        description = "재생성 요청 접수",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema =
+                                                @Schema(
+                                                        implementation =
+                                                                backend.medsnap.global.dto
+                                                                        .ApiResponse.class),
+                                        examples =
+                                                @ExampleObject(
+                                                        value =
+                                                                """
+                        {
+                          "code": "SUCCESS",
+                          "httpStatus": 202,
+                          "message": "요청이 성공적으로 처리되었습니다.",
+                          "data": {
+                            "startDate": "2025-09-28",
+                            "endDate": "2025-09-30",
+                            "days": 3
+                          }
+                        }
+                        """))),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "400",
+                        description = "잘못된 기간 (시작일 > 종료일, 미래 날짜, 최대 일수 초과)",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema =
+                                                @Schema(
+                                                        implementation =
+                                                                backend.medsnap.global.dto
+                                                                        .ApiResponse.class),
+                                        examples =
+                                                @ExampleObject(
+                                                        value =
+                                                                """
+                        {
+                          "code": "C002",
+                          "httpStatus": 400,
+                          "message": "시작일은 종료일보다 이후일 수 없습니다.",
+                          "data": null
+                        }
+                        """)))
+            })
+    ResponseEntity<backend.medsnap.global.dto.ApiResponse<RecordBackfillResponse>> backfill(
+            @Valid @RequestBody RecordBackfillRequest request);
+}
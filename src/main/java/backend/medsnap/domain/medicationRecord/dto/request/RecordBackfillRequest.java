@@ -0,0 +1,21 @@
+package backend.medsnap.domain.medicationRecord.dto.request;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordBackfillRequest {
+
+    @NotNull(message = "시작일은 필수입니다.")
+    private LocalDate startDate;
+
+    @NotNull(message = "종료일은 필수입니다.")
+    private LocalDate endDate;
+}
@@ -0,0 +1,15 @@
+package backend.medsnap.domain.medicationRecord.dto.response;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RecordBackfillResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int days;
+}
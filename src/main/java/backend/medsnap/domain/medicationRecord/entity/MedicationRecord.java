@@ -20,13 +20,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(
-        name = "medication_records",
-        uniqueConstraints = {
-            @UniqueConstraint(
-                    name = "UK_MEDICATION_SLOT_PER_DAY",
-                    columnNames = {"medication_id", "dose_time", "record_date"})
-        })
+// 슬롯(medication_id, dose_time, record_date) 유일성은 삭제되지 않은 기록에만 적용 (ux_medication_records_slot)
+@Table(name = "medication_records")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE medication_records SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
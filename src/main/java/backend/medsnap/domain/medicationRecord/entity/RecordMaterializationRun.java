@@ -0,0 +1,81 @@
+package backend.medsnap.domain.medicationRecord.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import backend.medsnap.global.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 시간대·날짜별 복약 기록 생성 작업의 샤드 점유(lease) 및 진행 상황 */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "record_materialization_runs",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "UK_RECORD_RUN_DATE_ZONE_SHARD",
+                    columnNames = {"run_date", "time_zone", "shard_no"})
+        })
+public class RecordMaterializationRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 사용자 시간대 기준 날짜
+    @Column(nullable = false)
+    private LocalDate runDate;
+
+    @ColumnDefault("'Asia/Seoul'")
+    @Column(nullable = false, length = 64)
+    private String timeZone;
+
+    @Column(nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer shardCount;
+
+    // 현재 샤드를 점유 중인 노드
+    private String owner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    // 마지막으로 커밋된 키셋 커서 (약 ID, 복용 시간)
+    @Column(nullable = false)
+    private Long cursorMedicationId;
+
+    @Column(nullable = false)
+    private LocalTime cursorDoseTime;
+
+    @Column(nullable = false)
+    private Long createdCount;
+
+    private LocalDateTime completedAt;
+
+    public boolean isOwnedBy(String node) {
+        return completedAt == null && node.equals(owner);
+    }
+
+    /** 페이지 커밋 시 커서 저장 및 lease 연장 */
+    public void advance(
+            Long medicationId, LocalTime doseTime, long created, LocalDateTime leaseExpiresAt) {
+        this.cursorMedicationId = medicationId;
+        this.cursorDoseTime = doseTime;
+        this.createdCount += created;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public void complete(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+        this.leaseExpiresAt = null;
+    }
+}
@@ -1,16 +1,22 @@
 package backend.medsnap.domain.medicationRecord.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import backend.medsnap.domain.medicationRecord.entity.MedicationRecord;
+import backend.medsnap.domain.medicationRecord.util.RecordSlotKey;
+import backend.medsnap.global.util.LongHashSet;
 
 @Repository
 public interface MedicationRecordRepository extends JpaRepository<MedicationRecord, Long> {
@@ -28,18 +34,11 @@ public interface MedicationRecordRepository extends JpaRepository<MedicationReco
     List<MedicationRecord> findByUserRecord(
             @Param("userId") Long userId, @Param("recordDate") LocalDate recordDate);
 
-    /** [멱등성 체크용] 복약 내역 생성 중복 방지 (삭제되지 않은 것만) */
-    @Query(
-            "SELECT COUNT(mr) > 0 FROM MedicationRecord mr WHERE mr.medication.id = :medicationId AND mr.doseTime = :doseTime AND mr.recordDate = :recordDate AND mr.deletedAt IS NULL")
-    boolean existsByMedication_IdAndDoseTimeAndRecordDate(
-            @Param("medicationId") Long medicationId,
-            @Param("doseTime") LocalTime doseTime,
-            @Param("recordDate") LocalDate recordDate);
-
-    /** [스케줄러용] 기존 기록 키 일괄 조회 (삭제되지 않은 것만) */
+    /** [스케줄러/등록용] 기존 기록 슬롯(약 ID, 자정 기준 초) 일괄 조회 (삭제되지 않은 것만) */
     @Query(
             value =
-                    "SELECT CONCAT(m.id, '_', TO_CHAR(mr.dose_time, 'HH24:MI:SS')) "
+                    "SELECT mr.medication_id AS \"medicationId\", "
+                            + "CAST(EXTRACT(EPOCH FROM mr.dose_time) AS INTEGER) AS \"secondOfDay\" "
                             + "FROM medication_records mr "
                             + "JOIN medications m ON mr.medication_id = m.id "
                             + "WHERE mr.record_date >= :start AND mr.record_date <= :end "
@@ -47,11 +46,42 @@ public interface MedicationRecordRepository extends JpaRepository<MedicationReco
                             + "AND mr.deleted_at IS NULL "
                             + "AND m.deleted_at IS NULL",
             nativeQuery = true)
-    Set<String> findExistingRecordKeys(
+    List<RecordSlotView> findExistingRecordSlots(
             @Param("start") LocalDate start,
             @Param("end") LocalDate end,
             @Param("medicationIds") List<Long> medicationIds);
 
+    /** [스케줄러/등록용] 기존 기록 슬롯을 {@link RecordSlotKey} 집합으로 조회 */
+    default LongHashSet findExistingSlotKeys(
+            LocalDate start, LocalDate end, List<Long> medicationIds) {
+        List<RecordSlotView> slots = findExistingRecordSlots(start, end, medicationIds);
+        LongHashSet keys = new LongHashSet(slots.size());
+        for (RecordSlotView slot : slots) {
+            keys.add(RecordSlotKey.of(slot.getMedicationId(), slot.getSecondOfDay()));
+        }
+        return keys;
+    }
+
+    /** [horizon 동기화용] 특정 약의 기간 내 PENDING 기록 조회 (삭제되지 않은 것만) */
+    @Query(
+            """
+        SELECT mr FROM MedicationRecord mr
+        WHERE mr.medication.id = :medicationId
+        AND mr.recordDate >= :startDate AND mr.recordDate <= :endDate
+        AND mr.status = 'PENDING'
+        AND mr.deletedAt IS NULL
+        """)
+    List<MedicationRecord> findPendingByMedicationIdAndRecordDateBetween(
+            @Param("medicationId") Long medicationId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /** [horizon 동기화용] 기록 일괄 소프트딜리트 */
+    @Modifying
+    @Query(
+            "UPDATE MedicationRecord mr SET mr.deletedAt = CURRENT_TIMESTAMP WHERE mr.id IN :ids")
+    int softDeleteByIdIn(@Param("ids") List<Long> ids);
+
     /** 달력 도트 조회 (월별 날짜 목록) (삭제되지 않은 것만) */
     @Query(
             """
@@ -66,18 +96,67 @@ public interface MedicationRecordRepository extends JpaRepository<MedicationReco
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
-    /** 알림 시간 업데이트용 - 사용자, 날짜, 시간으로 복약 기록 조회 */
+    /** [알림 전송 후] 사전 알림 발송 시각 일괄 기록 (이미 기록된 기록은 유지) */
+    @Modifying
     @Query(
-            """
-        SELECT mr FROM MedicationRecord mr
-        JOIN FETCH mr.medication m
-        WHERE m.user.id = :userId
-        AND mr.recordDate = :recordDate
-        AND mr.doseTime = :doseTime
-        AND mr.deletedAt IS NULL
-        """)
-    List<MedicationRecord> findByMedicationUserAndRecordDateAndDoseTime(
-            @Param("userId") Long userId,
-            @Param("recordDate") LocalDate recordDate,
-            @Param("doseTime") LocalTime doseTime);
+            value =
+                    """
+        UPDATE medication_records
+        SET first_alarm_at = :sentAt, updated_at = :sentAt
+        WHERE id IN (:ids)
+        AND first_alarm_at IS NULL
+        """,
+            nativeQuery = true)
+    int markFirstAlarmSent(
+            @Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /** [알림 전송 후] 정시 알림 발송 시각 일괄 기록 (이미 기록된 기록은 유지) */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE medication_records
+        SET second_alarm_at = :sentAt, updated_at = :sentAt
+        WHERE id IN (:ids)
+        AND second_alarm_at IS NULL
+        """,
+            nativeQuery = true)
+    int markSecondAlarmSent(
+            @Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * [미복용 처리용] 사용자 시간대 기준 유예 시간이 지난 PENDING 기록을 SKIPPED로 일괄 전환
+     *
+     * <p>부분 인덱스 idx_medication_records_pending_due(PENDING만 포함)를 타며, 전환된 기록은 인덱스에서 빠진다. 시간대 변환은
+     * 행마다 계산되어 인덱스 조건이 될 수 없으므로, 가장 앞선 시간대 기준 만료 경계 (maxRecordDate, maxDoseTime)로 먼저 범위를
+     * 좁힌 뒤 사용자 시간대로 다시 확인한다. 다른 인스턴스가 잡은 행은 건너뛴다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+            value =
+                    """
+        UPDATE medication_records SET status = 'SKIPPED', updated_at = :updatedAt
+        WHERE id IN (
+            SELECT mr.id FROM medication_records mr
+            JOIN medications m ON m.id = mr.medication_id
+            JOIN users u ON u.id = m.user_id
+            WHERE mr.status = 'PENDING'
+            AND mr.deleted_at IS NULL
+            AND (mr.record_date, mr.dose_time)
+                <= (CAST(:maxRecordDate AS DATE), CAST(:maxDoseTime AS TIME))
+            AND mr.record_date + mr.dose_time + make_interval(mins => :graceMinutes)
+                <= (CAST(:now AS TIMESTAMPTZ) AT TIME ZONE u.time_zone)
+            ORDER BY mr.record_date, mr.dose_time
+            LIMIT :batchSize
+            FOR UPDATE OF mr SKIP LOCKED
+        )
+        """,
+            nativeQuery = true)
+    int skipExpiredPending(
+            @Param("now") OffsetDateTime now,
+            @Param("maxRecordDate") LocalDate maxRecordDate,
+            @Param("maxDoseTime") LocalTime maxDoseTime,
+            @Param("graceMinutes") int graceMinutes,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("batchSize") int batchSize);
 }
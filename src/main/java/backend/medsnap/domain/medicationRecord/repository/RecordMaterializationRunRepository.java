@@ -0,0 +1,144 @@
+package backend.medsnap.domain.medicationRecord.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import backend.medsnap.domain.medicationRecord.entity.RecordMaterializationRun;
+
+@Repository
+public interface RecordMaterializationRunRepository
+        extends JpaRepository<RecordMaterializationRun, Long> {
+
+    /**
+     * 샤드 점유 시도 (행이 없으면 생성, 완료되지 않았고 lease가 만료되었거나 이미 내가 점유 중일 때만 갱신)
+     *
+     * @return 점유에 성공하면 1, 다른 노드가 점유 중이거나 완료된 샤드면 0
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+        INSERT INTO record_materialization_runs
+            (run_date, time_zone, shard_no, shard_count, owner, lease_expires_at,
+             cursor_medication_id, cursor_dose_time, created_count, created_at, updated_at)
+        VALUES
+            (:runDate, :timeZone, :shardNo, :shardCount, :owner, :leaseExpiresAt,
+             0, TIME '00:00:00', 0, :now, :now)
+        ON CONFLICT (run_date, time_zone, shard_no) DO UPDATE
+        SET owner = EXCLUDED.owner,
+            lease_expires_at = EXCLUDED.lease_expires_at,
+            updated_at = EXCLUDED.updated_at
+        WHERE record_materialization_runs.completed_at IS NULL
+        AND (record_materialization_runs.owner = EXCLUDED.owner
+            OR record_materialization_runs.lease_expires_at IS NULL
+            OR record_materialization_runs.lease_expires_at < :now)
+        """,
+            nativeQuery = true)
+    int tryClaim(
+            @Param("runDate") LocalDate runDate,
+            @Param("timeZone") String timeZone,
+            @Param("shardNo") int shardNo,
+            @Param("shardCount") int shardCount,
+            @Param("owner") String owner,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("now") LocalDateTime now);
+
+    /** 페이지 처리 중 다른 노드의 점유를 막기 위해 행 잠금과 함께 조회 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            "SELECT r FROM RecordMaterializationRun r "
+                    + "WHERE r.runDate = :runDate "
+                    + "AND r.timeZone = :timeZone "
+                    + "AND r.shardNo = :shardNo")
+    Optional<RecordMaterializationRun> findForUpdate(
+            @Param("runDate") LocalDate runDate,
+            @Param("timeZone") String timeZone,
+            @Param("shardNo") int shardNo);
+
+    /** 특정 시간대·날짜의 완료된 샤드 수 */
+    @Query(
+            "SELECT COUNT(r) FROM RecordMaterializationRun r "
+                    + "WHERE r.runDate = :runDate "
+                    + "AND r.timeZone = :timeZone "
+                    + "AND r.completedAt IS NOT NULL")
+    long countCompleted(
+            @Param("runDate") LocalDate runDate, @Param("timeZone") String timeZone);
+
+    /** [catch-up용] 특정 시간대에서 기간 내 모든 샤드가 완료된 날짜 목록 */
+    @Query(
+            "SELECT r.runDate FROM RecordMaterializationRun r "
+                    + "WHERE r.runDate >= :startDate AND r.runDate <= :endDate "
+                    + "AND r.timeZone = :timeZone "
+                    + "AND r.completedAt IS NOT NULL "
+                    + "GROUP BY r.runDate "
+                    + "HAVING COUNT(r) >= :shardCount")
+    List<LocalDate> findCompletedDates(
+            @Param("timeZone") String timeZone,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("shardCount") long shardCount);
+
+    /** [catch-up용] 특정 시간대의 가장 이른 실행 날짜 (실행 기록이 없으면 null) */
+    @Query(
+            "SELECT MIN(r.runDate) FROM RecordMaterializationRun r "
+                    + "WHERE r.timeZone = :timeZone")
+    LocalDate findFirstRunDate(@Param("timeZone") String timeZone);
+
+    /** 샤드를 거치지 않는 엔진(jpa/sql/스트리밍)으로 처리한 날짜를 완료로 기록 */
+    @Modifying
+    @Query(
+            value =
+                    """
+        INSERT INTO record_materialization_runs
+            (run_date, time_zone, shard_no, shard_count, cursor_medication_id,
+             cursor_dose_time, created_count, completed_at, created_at, updated_at)
+        VALUES
+            (:runDate, :timeZone, :shardNo, :shardCount, 0,
+             TIME '00:00:00', 0, :now, :now, :now)
+        ON CONFLICT (run_date, time_zone, shard_no) DO UPDATE
+        SET completed_at = EXCLUDED.completed_at,
+            owner = NULL,
+            lease_expires_at = NULL,
+            updated_at = EXCLUDED.updated_at
+        WHERE record_materialization_runs.completed_at IS NULL
+        """,
+            nativeQuery = true)
+    int markCompleted(
+            @Param("runDate") LocalDate runDate,
+            @Param("timeZone") String timeZone,
+            @Param("shardNo") int shardNo,
+            @Param("shardCount") int shardCount,
+            @Param("now") LocalDateTime now);
+
+    /** [재생성용] 기간 내 실행 기록을 처음 상태로 되돌림 (점유 중인 노드는 다음 페이지에서 점유 상실로 중단) */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+            value =
+                    """
+        UPDATE record_materialization_runs
+        SET owner = NULL,
+            lease_expires_at = NULL,
+            cursor_medication_id = 0,
+            cursor_dose_time = TIME '00:00:00',
+            created_count = 0,
+            completed_at = NULL,
+            updated_at = :now
+        WHERE run_date >= :startDate AND run_date <= :endDate
+        """,
+            nativeQuery = true)
+    int resetRuns(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package backend.medsnap.domain.medicationRecord.repository;
+
+/** 복약 기록 슬롯 조회용 projection (약 ID, 자정 기준 초) */
+public interface RecordSlotView {
+
+    Long getMedicationId();
+
+    Integer getSecondOfDay();
+}
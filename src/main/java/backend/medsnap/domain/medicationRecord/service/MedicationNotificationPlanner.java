@@ -0,0 +1,111 @@
+package backend.medsnap.domain.medicationRecord.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import backend.medsnap.domain.medication.entity.Medication;
+import backend.medsnap.domain.medicationRecord.entity.MedicationRecord;
+import backend.medsnap.domain.notification.dto.request.NotificationCreateCommand;
+import backend.medsnap.domain.notification.entity.NotificationKind;
+import backend.medsnap.global.time.ZoneClock;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 복약 기록에 대해 생성해야 할 알림(사전 알림, 정시 알림) 목록을 계산
+ *
+ * <p>복용 시각은 사용자 시간대로 해석하여 scheduled_at은 서버 시간대 시각으로 저장하고, 알림 data에는 현지 시각을 남긴다. 과거
+ * 시각의 알림은 제외하며, 중복 여부는 저장 시 ux_notifications_dedupe_key 제약으로 걸러진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MedicationNotificationPlanner {
+
+    private static final String TITLE = "메드스냅";
+    private static final long PRE_NOTIFY_MINUTES = 10;
+
+    private final ZoneClock zoneClock;
+    private final Clock clock;
+
+    public List<NotificationCreateCommand> plan(
+            List<MedicationRecord> records, LocalDate recordDate) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<NotificationCreateCommand> commands = new ArrayList<>(records.size() * 2);
+
+        for (MedicationRecord record : records) {
+            Medication medication = record.getMedication();
+            LocalTime doseTime = record.getDoseTime();
+            ZoneId zone = medication.getUser().getZoneId();
+
+            // 알림 예약 시간: 사용자 시간대의 복용 시간에 맞춰 설정
+            LocalDateTime notificationTime = recordDate.atTime(doseTime);
+
+            // 사전 알림이 활성화되어 있다면 10분 전에 알림 생성
+            if (Boolean.TRUE.equals(medication.getPreNotify())) {
+                LocalDateTime preNotificationTime =
+                        notificationTime.minusMinutes(PRE_NOTIFY_MINUTES);
+                if (zoneClock.toServerTime(preNotificationTime, zone).isAfter(now)) {
+                    commands.add(
+                            command(
+                                    record,
+                                    NotificationKind.PRE,
+                                    zone,
+                                    doseTime,
+                                    preNotificationTime,
+                                    String.format(
+                                            "%s 복용 시간이 10분 남았습니다.", medication.getName())));
+                }
+            }
+
+            // 정시 알림 생성
+            if (zoneClock.toServerTime(notificationTime, zone).isAfter(now)) {
+                commands.add(
+                        command(
+                                record,
+                                NotificationKind.ON_TIME,
+                                zone,
+                                doseTime,
+                                notificationTime,
+                                String.format("%s 복용 시간입니다.", medication.getName())));
+            }
+        }
+        return commands;
+    }
+
+    private NotificationCreateCommand command(
+            MedicationRecord record,
+            NotificationKind kind,
+            ZoneId zone,
+            LocalTime doseTime,
+            LocalDateTime localScheduledAt,
+            String body) {
+        Medication medication = record.getMedication();
+        Map<String, Object> data =
+                Map.of(
+                        "type",
+                        "medication",
+                        "medicationName",
+                        medication.getName(),
+                        "doseTime",
+                        doseTime.toString(),
+                        "scheduledAt",
+                        localScheduledAt.toString());
+
+        return NotificationCreateCommand.builder()
+                .userId(medication.getUser().getId())
+                .title(TITLE)
+                .body(body)
+                .data(data)
+                .scheduledAt(zoneClock.toServerTime(localScheduledAt, zone))
+                .medicationRecordId(record.getId())
+                .kind(kind)
+                .build();
+    }
+}
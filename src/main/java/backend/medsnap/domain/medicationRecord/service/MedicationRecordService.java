@@ -5,14 +5,21 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,10 +34,14 @@ import backend.medsnap.domain.medicationRecord.entity.MedicationRecord;
 import backend.medsnap.domain.medicationRecord.entity.MedicationRecordStatus;
 import backend.medsnap.domain.medicationRecord.exception.MedicationRecordException;
 import backend.medsnap.domain.medicationRecord.repository.MedicationRecordRepository;
-import backend.medsnap.domain.notification.dto.request.NotificationCreateRequest;
-import backend.medsnap.domain.notification.repository.NotificationRepository;
+import backend.medsnap.domain.medicationRecord.util.RecordSlotKey;
 import backend.medsnap.domain.notification.service.NotificationService;
+import backend.medsnap.domain.user.entity.User;
+import backend.medsnap.domain.user.exception.UserNotFoundException;
+import backend.medsnap.domain.user.repository.UserRepository;
 import backend.medsnap.global.exception.ErrorCode;
+import backend.medsnap.global.time.ZoneClock;
+import backend.medsnap.global.util.LongHashSet;
 import backend.medsnap.infra.inference.client.InferenceClient;
 import backend.medsnap.infra.inference.dto.response.InferenceResponse;
 import backend.medsnap.infra.s3.S3Service;
@@ -45,13 +56,21 @@ public class MedicationRecordService {
     private final MedicationRecordRepository medicationRecordRepository;
     private final AlarmRepository alarmRepository;
     private final NotificationService notificationService;
-    private final NotificationRepository notificationRepository;
+    private final MedicationNotificationPlanner medicationNotificationPlanner;
     private final InferenceClient inferenceClient;
     private final S3Service s3Service;
+    private final UserRepository userRepository;
+    private final ZoneClock zoneClock;
     private final Clock clock;
 
     private static final Duration GRACE_PERIOD = Duration.ofMinutes(45);
 
+    @Value("${scheduler.medication-record.horizon.enabled:false}")
+    private boolean horizonEnabled;
+
+    @Value("${scheduler.medication-record.horizon.days:7}")
+    private int horizonDays;
+
     /** 복약 인증 처리 (AI API 연동) TODO: AI API 준비 완료 후 활성화 */
     @Transactional
     public VerifyResponse verifyMedicationWithAI(Long userId, Long recordId, MultipartFile image) {
@@ -122,13 +141,14 @@ public class MedicationRecordService {
                     ErrorCode.COMMON_VALIDATION_ERROR, "유효하지 않은 년도 또는 월 정보입니다.");
         }
 
-        // 조회 기간 설정
+        // 조회 기간 설정 (미리 생성된 미래 기록은 제외, 사용자 시간대 기준)
+        LocalDate today = zoneClock.today(findUserZone(userId));
         LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
         LocalDate lastDayOfMonth = firstDayOfMonth.with(TemporalAdjusters.lastDayOfMonth());
+        LocalDate endDate = lastDayOfMonth.isAfter(today) ? today : lastDayOfMonth;
 
         Set<LocalDate> dates =
-                medicationRecordRepository.findDatesByMonth(
-                        userId, firstDayOfMonth, lastDayOfMonth);
+                medicationRecordRepository.findDatesByMonth(userId, firstDayOfMonth, endDate);
 
         log.info("조회 완료: 총 {}개의 복약 기록 날짜를 찾았습니다.", dates.size());
 
@@ -138,89 +158,221 @@ public class MedicationRecordService {
     /** 약 등록 시 당일의 복약 기록 생성 (오늘 등록한 약만) */
     @Transactional
     public void createTodayRecordsForMedication(Medication medication) {
-        LocalDate today = LocalDate.now(clock);
-        DayOfWeek todayDayOfWeek = convertJavaToDayOfWeek(today.getDayOfWeek());
-
-        // 오늘 요일에 해당하는 알람들만 조회
-        List<Alarm> todayAlarms =
-                medication.getAlarms().stream()
-                        .filter(alarm -> alarm.getDayOfWeek() == todayDayOfWeek)
-                        .toList();
+        LocalDate today = zoneClock.today(medication.getUser().getZoneId());
+        createRecordsForMedication(medication, medication.getAlarms(), today);
+    }
 
-        if (todayAlarms.isEmpty()) {
-            log.info("약 ID: {} - 오늘({})에 해당하는 알람이 없어 복약 기록을 생성하지 않습니다.", medication.getId(), today);
+    /**
+     * 약 등록/수정/삭제 후 horizon(내일 ~ 설정 일수) 범위의 미리 생성된 기록을 알람과 맞춤
+     *
+     * <p>알람이 사라진 슬롯의 PENDING 기록은 제거하고, 새로 생긴 슬롯의 기록과 알림만 생성한다.
+     */
+    @Transactional
+    public void syncHorizonRecordsForMedication(Medication medication) {
+        if (!horizonEnabled || horizonDays <= 1) {
             return;
         }
 
-        // 각 알람에 대해 복약 기록 생성
-        List<MedicationRecord> records =
-                todayAlarms.stream()
-                        .filter(
-                                alarm -> {
+        LocalDate today = zoneClock.today(medication.getUser().getZoneId());
+        LocalDate startDate = today.plusDays(1);
+        LocalDate endDate = today.plusDays(horizonDays - 1);
 
-                                    // 이미 존재하는지 체크 (중복 방지)
-                                    boolean exists =
-                                            medicationRecordRepository
-                                                    .existsByMedication_IdAndDoseTimeAndRecordDate(
-                                                            medication.getId(),
-                                                            alarm.getDoseTime(),
-                                                            today);
-                                    if (exists) {
-                                        log.debug(
-                                                "약 ID: {}, 시간: {} - 이미 기록이 존재하여 건너뜀",
-                                                medication.getId(),
-                                                alarm.getDoseTime());
-                                    }
-                                    return !exists;
-                                })
-                        .map(
-                                alarm -> {
-                                    MedicationRecordStatus status =
-                                            determineStatus(null, today, alarm.getDoseTime());
-
-                                    return MedicationRecord.builder()
-                                            .medication(medication)
-                                            .status(status)
-                                            .doseTime(alarm.getDoseTime())
-                                            .recordDate(today)
-                                            .build();
-                                })
+        List<Alarm> activeAlarms = alarmRepository.findActiveByMedicationId(medication.getId());
+        Map<DayOfWeek, LongHashSet> activeSlotsByDay = new EnumMap<>(DayOfWeek.class);
+        for (Alarm alarm : activeAlarms) {
+            activeSlotsByDay
+                    .computeIfAbsent(alarm.getDayOfWeek(), ignored -> new LongHashSet())
+                    .add(RecordSlotKey.of(medication.getId(), alarm.getDoseTime()));
+        }
+
+        // 알람이 사라진 슬롯의 미래 기록 소프트딜리트 (사용자 데이터가 없는 PENDING 기록만)
+        List<Long> staleRecordIds =
+                medicationRecordRepository
+                        .findPendingByMedicationIdAndRecordDateBetween(
+                                medication.getId(), startDate, endDate)
+                        .stream()
+                        .filter(record -> !hasActiveSlot(activeSlotsByDay, medication, record))
+                        .map(MedicationRecord::getId)
                         .toList();
 
-        if (!records.isEmpty()) {
-            List<MedicationRecord> savedRecords = medicationRecordRepository.saveAll(records);
+        if (!staleRecordIds.isEmpty()) {
+            medicationRecordRepository.softDeleteByIdIn(staleRecordIds);
             log.info(
-                    "약 ID: {} - 오늘({})에 대한 {}개의 복약 기록이 생성되었습니다.",
+                    "약 ID: {} - horizon 내 알람이 사라진 기록 {}개 삭제",
                     medication.getId(),
-                    today,
-                    savedRecords.size());
+                    staleRecordIds.size());
+        }
 
-            // 복약 기록 생성 시 알림도 함께 생성
-            createNotificationsForRecords(savedRecords, today);
+        // 새 슬롯의 기록 생성 (이미 있는 슬롯은 건너뜀)
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            createRecordsForMedication(medication, activeAlarms, date);
+        }
+    }
+
+    private static boolean hasActiveSlot(
+            Map<DayOfWeek, LongHashSet> activeSlotsByDay,
+            Medication medication,
+            MedicationRecord record) {
+        LongHashSet slots =
+                activeSlotsByDay.get(DayOfWeek.from(record.getRecordDate().getDayOfWeek()));
+        return slots != null
+                && slots.contains(RecordSlotKey.of(medication.getId(), record.getDoseTime()));
+    }
+
+    /** 특정 날짜의 요일에 해당하는 알람으로 복약 기록과 알림 생성 */
+    private void createRecordsForMedication(
+            Medication medication, List<Alarm> alarms, LocalDate today) {
+        int created = createRecords(today, List.of(medication), ignored -> alarms);
+
+        if (created > 0) {
+            log.info(
+                    "약 ID: {} - {} 날짜에 대한 {}개의 복약 기록이 생성되었습니다.",
+                    medication.getId(),
+                    today,
+                    created);
         } else {
-            log.info("약 ID: {} - 오늘({})에 생성할 새로운 기록이 없습니다.", medication.getId(), today);
+            log.info("약 ID: {} - {} 날짜에 생성할 새로운 기록이 없습니다.", medication.getId(), today);
         }
     }
 
+    /**
+     * 여러 약의 당일 복약 기록과 알림을 한 번에 생성 (일괄 등록, 관리 도구용)
+     *
+     * <p>'오늘'은 각 약 사용자의 시간대 기준이며, 같은 날짜끼리 묶어 기존 기록 조회를 한 번에 처리한다.
+     *
+     * @return 생성된 복약 기록 수
+     */
+    @Transactional
+    public int createTodayRecordsForMedications(Collection<Medication> medications) {
+        Map<LocalDate, List<Medication>> medicationsByDate =
+                medications.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        medication ->
+                                                zoneClock.today(
+                                                        medication.getUser().getZoneId())));
+
+        int created = 0;
+        for (Map.Entry<LocalDate, List<Medication>> entry : medicationsByDate.entrySet()) {
+            created +=
+                    createRecords(
+                            entry.getKey(),
+                            entry.getValue(),
+                            medication ->
+                                    medication.getAlarms().stream()
+                                            .filter(alarm -> alarm.getDeletedAt() == null)
+                                            .toList());
+        }
+
+        log.info("약 {}개에 대한 당일 복약 기록 {}개 일괄 생성", medications.size(), created);
+        return created;
+    }
+
+    /**
+     * 날짜의 요일에 해당하는 알람 중 기록이 없는 슬롯만 복약 기록과 알림 생성
+     *
+     * <p>기존 기록은 약 개수와 관계없이 한 번의 슬롯 조회로 확인한다.
+     *
+     * @return 생성된 복약 기록 수
+     */
+    private int createRecords(
+            LocalDate date,
+            List<Medication> medications,
+            Function<Medication, List<Alarm>> alarmsOf) {
+        if (medications.isEmpty()) {
+            return 0;
+        }
+
+        DayOfWeek dayOfWeek = DayOfWeek.from(date.getDayOfWeek());
+        List<Long> medicationIds = medications.stream().map(Medication::getId).toList();
+
+        // 기존 기록 슬롯 일괄 조회 (같은 요청 안의 중복 슬롯도 함께 걸러짐)
+        LongHashSet existingKeys =
+                medicationRecordRepository.findExistingSlotKeys(date, date, medicationIds);
+
+        List<MedicationRecord> records = new ArrayList<>();
+        for (Medication medication : medications) {
+            ZoneId zone = medication.getUser().getZoneId();
+
+            for (Alarm alarm : alarmsOf.apply(medication)) {
+                if (alarm.getDayOfWeek() != dayOfWeek) {
+                    continue;
+                }
+                if (!existingKeys.add(RecordSlotKey.of(medication.getId(), alarm.getDoseTime()))) {
+                    log.debug(
+                            "약 ID: {}, 시간: {} - 이미 기록이 존재하여 건너뜀",
+                            medication.getId(),
+                            alarm.getDoseTime());
+                    continue;
+                }
+
+                records.add(
+                        MedicationRecord.builder()
+                                .medication(medication)
+                                .status(determineStatus(null, date, alarm.getDoseTime(), zone))
+                                .doseTime(alarm.getDoseTime())
+                                .recordDate(date)
+                                .build());
+            }
+        }
+
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        List<MedicationRecord> savedRecords = medicationRecordRepository.saveAll(records);
+
+        // 복약 기록 생성 시 알림도 함께 생성
+        notificationService.createNotifications(
+                medicationNotificationPlanner.plan(savedRecords, date));
+
+        return savedRecords.size();
+    }
+
+    /**
+     * 유예 시간(복용 시간 + 45분, 사용자 시간대 기준)이 지난 PENDING 기록을 SKIPPED로 전환 (한 배치)
+     *
+     * @return 전환된 기록 수
+     */
+    @Transactional
+    public int skipExpiredPendingRecords(int batchSize) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+
+        // 가장 앞선 시간대(UTC+18)에서도 만료되지 않은 기록은 어느 시간대에서도 만료 전 (인덱스 범위 제한용)
+        LocalDateTime expiryBound =
+                now.withOffsetSameInstant(ZoneOffset.MAX).toLocalDateTime().minus(GRACE_PERIOD);
+
+        return medicationRecordRepository.skipExpiredPending(
+                now,
+                expiryBound.toLocalDate(),
+                expiryBound.toLocalTime(),
+                (int) GRACE_PERIOD.toMinutes(),
+                now.toLocalDateTime(),
+                batchSize);
+    }
+
     @Transactional(readOnly = true)
     public DayListResponse getDayList(Long userId, LocalDate date) {
 
         log.info("사용자 ID: {}의 {}일 복용 목록 조회", userId, date);
 
+        // 사용자 시간대 기준으로 날짜/상태 판정
+        ZoneId zone = findUserZone(userId);
+
         // 해당 요일의 모든 알람 조회
-        DayOfWeek dayOfWeek = convertJavaToDayOfWeek(date.getDayOfWeek());
+        DayOfWeek dayOfWeek = DayOfWeek.from(date.getDayOfWeek());
         List<Alarm> alarms = alarmRepository.findByUserAndDay(userId, dayOfWeek);
 
         // 해당 날짜의 모든 복용 기록 조회
         List<MedicationRecord> records = medicationRecordRepository.findByUserRecord(userId, date);
 
         // (약 ID, 복용 시간) 조합 기록 매핑
-        Map<String, MedicationRecord> recordMap =
+        Map<Long, MedicationRecord> recordMap =
                 records.stream()
                         .collect(
                                 Collectors.toMap(
                                         record ->
-                                                createRecordKey(
+                                                RecordSlotKey.of(
                                                         record.getMedication().getId(),
                                                         record.getDoseTime()),
                                         record -> record,
@@ -228,7 +380,7 @@ public class MedicationRecordService {
                                         ));
 
         // 알람 기준으로 아이템 생성 (약 등록일부터 오늘까지만 포함)
-        LocalDate today = LocalDate.now(clock);
+        LocalDate today = zoneClock.today(zone);
         List<DayListResponse.Item> items =
                 alarms.stream()
                         .filter(
@@ -248,14 +400,15 @@ public class MedicationRecordService {
                                 })
                         .map(
                                 alarm -> {
-                                    String key =
-                                            createRecordKey(
+                                    long key =
+                                            RecordSlotKey.of(
                                                     alarm.getMedication().getId(),
                                                     alarm.getDoseTime());
                                     MedicationRecord record = recordMap.get(key);
 
                                     MedicationRecordStatus status =
-                                            determineStatus(record, date, alarm.getDoseTime());
+                                            determineStatus(
+                                                    record, date, alarm.getDoseTime(), zone);
 
                                     DayListResponse.Item.ItemBuilder itemBuilder =
                                             DayListResponse.Item.builder()
@@ -285,14 +438,9 @@ public class MedicationRecordService {
         return DayListResponse.builder().date(date).items(items).build();
     }
 
-    /** (약 ID, 복용 시간) 조합으로 키 생성 */
-    private String createRecordKey(Long medicationId, LocalTime doseTime) {
-        return medicationId + "_" + doseTime.format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-    }
-
     /** 복용 상태 결정 */
     private MedicationRecordStatus determineStatus(
-            MedicationRecord record, LocalDate date, LocalTime alarmTime) {
+            MedicationRecord record, LocalDate date, LocalTime alarmTime, ZoneId zone) {
         // 기록이 있으면 DB 저장된 상태 사용
         if (record != null) {
             return record.getStatus();
@@ -301,7 +449,7 @@ public class MedicationRecordService {
         // 기록이 없을 때 시간 기준으로 상태 판정
         LocalDateTime alarmDateTime = LocalDateTime.of(date, alarmTime);
         LocalDateTime graceEndTime = alarmDateTime.plus(GRACE_PERIOD);
-        LocalDateTime currentTime = LocalDateTime.now(clock);
+        LocalDateTime currentTime = zoneClock.now(zone);
 
         if (currentTime.isAfter(graceEndTime)) {
             return MedicationRecordStatus.SKIPPED;
@@ -310,102 +458,6 @@ public class MedicationRecordService {
         }
     }
 
-    /** 복약 기록에 대한 알림 생성 */
-    private void createNotificationsForRecords(
-            List<MedicationRecord> records, LocalDate recordDate) {
-        try {
-            for (MedicationRecord record : records) {
-                Medication medication = record.getMedication();
-                LocalTime doseTime = record.getDoseTime();
-
-                // 알림 예약 시간: 복용 시간에 맞춰 설정
-                LocalDateTime notificationTime = recordDate.atTime(doseTime);
-
-                // 사전 알림이 활성화되어 있다면 10분 전에 알림 생성
-                if (Boolean.TRUE.equals(medication.getPreNotify())) {
-                    LocalDateTime preNotificationTime = notificationTime.minusMinutes(10);
-                    if (preNotificationTime.isAfter(LocalDateTime.now())) {
-                        createMedicationNotification(
-                                medication.getUser().getId(),
-                                medication.getName(),
-                                doseTime,
-                                preNotificationTime,
-                                "메드스냅",
-                                String.format("%s 복용 시간이 10분 남았습니다.", medication.getName()));
-                    }
-                }
-
-                // 정시 알림 생성
-                if (notificationTime.isAfter(LocalDateTime.now(clock))) {
-                    createMedicationNotification(
-                            medication.getUser().getId(),
-                            medication.getName(),
-                            doseTime,
-                            notificationTime,
-                            "메드스냅",
-                            String.format("%s 복용 시간입니다.", medication.getName()));
-                }
-            }
-            log.info("복약 기록 {}개에 대한 알림 생성 완료", records.size());
-        } catch (Exception e) {
-            log.error("복약 기록 알림 생성 중 오류 발생", e);
-        }
-    }
-
-    /** 약물 복용 알림 생성 헬퍼 메서드 */
-    private void createMedicationNotification(
-            Long userId,
-            String medicationName,
-            LocalTime doseTime,
-            LocalDateTime scheduledAt,
-            String title,
-            String body) {
-        try {
-            // 과거 시간 필터링 (KST 기준으로 비교)
-            LocalDateTime now = LocalDateTime.now(clock);
-            if (!scheduledAt.isAfter(now)) {
-                log.debug("과거 알림 건너뜀: 사용자 ID {}, 시간 {}", userId, scheduledAt);
-                return;
-            }
-
-            // 중복 알림 체크 (강화된 키: userId + scheduledAt + title + body)
-            if (notificationRepository.existsByUserIdAndScheduledAtAndTitleAndBody(
-                    userId, scheduledAt, title, body)) {
-                log.debug(
-                        "중복 알림 건너뜀: 사용자 ID {}, 시간 {}, 제목 {}, 본문 {}",
-                        userId,
-                        scheduledAt,
-                        title,
-                        body);
-                return;
-            }
-
-            Map<String, Object> data =
-                    Map.of(
-                            "type",
-                            "medication",
-                            "medicationName",
-                            medicationName,
-                            "doseTime",
-                            doseTime.toString(),
-                            "scheduledAt",
-                            scheduledAt.toString());
-
-            NotificationCreateRequest request =
-                    NotificationCreateRequest.builder()
-                            .title(title)
-                            .body(body)
-                            .data(data)
-                            .scheduledAt(scheduledAt)
-                            .build();
-
-            notificationService.createNotification(userId, request);
-            log.debug("알림 생성 완료: 사용자 ID {}, 약물 {}, 시간 {}", userId, medicationName, doseTime);
-        } catch (Exception e) {
-            log.error("알림 생성 실패: 사용자 ID {}, 약물 {}, 시간 {}", userId, medicationName, doseTime, e);
-        }
-    }
-
     /** AI 추론 결과가 성공적인지 판별 */
     private boolean isSuccessfulInference(InferenceResponse response) {
         if (response == null || !response.isSuccess() || response.getData() == null) {
@@ -433,16 +485,11 @@ public class MedicationRecordService {
         return record;
     }
 
-    /** Java DayOfWeek를 도메인 DayOfWeek로 변환 */
-    private DayOfWeek convertJavaToDayOfWeek(java.time.DayOfWeek javaDayOfWeek) {
-        return switch (javaDayOfWeek) {
-            case MONDAY -> DayOfWeek.MON;
-            case TUESDAY -> DayOfWeek.TUE;
-            case WEDNESDAY -> DayOfWeek.WED;
-            case THURSDAY -> DayOfWeek.THU;
-            case FRIDAY -> DayOfWeek.FRI;
-            case SATURDAY -> DayOfWeek.SAT;
-            case SUNDAY -> DayOfWeek.SUN;
-        };
+    /** 사용자 시간대 조회 */
+    private ZoneId findUserZone(Long userId) {
+        return userRepository
+                .findById(userId)
+                .map(User::getZoneId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
     }
 }
@@ -0,0 +1,24 @@
+package backend.medsnap.domain.medicationRecord.util;
+
+import java.time.LocalTime;
+
+/**
+ * 복약 슬롯(약 ID, 복용 시각)을 하나의 long으로 묶은 키
+ *
+ * <p>상위 비트에 약 ID, 하위 17비트에 자정 기준 초(0 ~ 86,399)를 담는다. 같은 날짜 안에서 슬롯을 식별할 때 문자열 키 대신
+ * 사용한다.
+ */
+public final class RecordSlotKey {
+
+    private static final int SECOND_BITS = 17;
+
+    private RecordSlotKey() {}
+
+    public static long of(long medicationId, LocalTime doseTime) {
+        return of(medicationId, doseTime.toSecondOfDay());
+    }
+
+    public static long of(long medicationId, int secondOfDay) {
+        return (medicationId << SECOND_BITS) | secondOfDay;
+    }
+}
@@ -0,0 +1,21 @@
+package backend.medsnap.domain.notification.client;
+
+import java.io.IOException;
+
+import lombok.Getter;
+
+/** Expo가 재시도 대상 HTTP 상태(429, 5xx)로 응답했을 때 Expo HTTP 클라이언트가 던지는 예외 */
+@Getter
+public class ExpoHttpStatusException extends IOException {
+
+    private final int statusCode;
+
+    public ExpoHttpStatusException(int statusCode) {
+        super("Expo HTTP " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    public boolean isTooManyRequests() {
+        return statusCode == 429;
+    }
+}
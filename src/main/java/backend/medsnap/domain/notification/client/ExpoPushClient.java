@@ -10,6 +10,7 @@ import com.niamedtech.expo.exposerversdk.request.PushNotification;
 import com.niamedtech.expo.exposerversdk.response.TicketResponse;
 
 import backend.medsnap.domain.notification.exception.NotificationException;
+import backend.medsnap.domain.notification.util.RateLimiter;
 import backend.medsnap.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,48 +21,45 @@ import lombok.extern.slf4j.Slf4j;
 public class ExpoPushClient {
 
     private final ExpoPushNotificationClient expoClient;
+    private final RateLimiter rateLimiter;
 
-    /** 429/5xx 대비 재시도 래퍼 */
-    public List<TicketResponse.Ticket> sendWithRetry(
-            List<PushNotification> batch, int maxAttempts) {
-        int attempt = 0;
-        while (true) {
-            try {
-
-                log.info("Expo 푸시 전송 시도 (총 {}건, {}회차)", batch.size(), attempt + 1);
-                List<TicketResponse.Ticket> tickets = expoClient.sendPushNotifications(batch);
-                log.info("Expo 푸시 전송 성공 (응답 티켓 {}건)", tickets.size());
-                return tickets;
-
-            } catch (IOException ex) {
-                attempt++;
-                log.warn("Expo 푸시 전송 실패 (네트워크/서버 오류) - {}회차, 재시도 예정", attempt, ex);
+    /**
+     * 한 번의 요청으로 전송 (대기/재시도 없음)
+     *
+     * <p>네트워크/서버 오류(429, 5xx 포함)는 {@code NOTIFICATION_SEND_RETRYABLE}로 던지며, 재시도는 호출 측이 알림을 RETRY_SCHEDULED로
+     * 예약하여 처리한다. 전송 스레드를 재우지 않으므로 Expo 장애가 전송 루프를 막지 않는다.
+     */
+    public List<TicketResponse.Ticket> send(List<PushNotification> batch) {
+        try {
+            log.info("Expo 푸시 전송 시도 (총 {}건)", batch.size());
+            List<TicketResponse.Ticket> tickets = expoClient.sendPushNotifications(batch);
+            log.info("Expo 푸시 전송 성공 (응답 티켓 {}건)", tickets.size());
+            return tickets;
 
-                if (attempt >= maxAttempts) {
-                    log.error("Expo 푸시 전송 최종 실패 (총 {}회 시도 후 포기)", attempt, ex);
-                    throw new NotificationException(
-                            ErrorCode.NOTIFICATION_SEND_FAIL, "Expo 푸시 전송 실패");
-                }
-                backoff(attempt);
+        } catch (IOException ex) {
+            log.warn("Expo 푸시 전송 실패 (네트워크/서버 오류), 재시도 예약 대상", ex);
 
-            } catch (Exception ex) {
-                // 잘못된 페이로드 등 비재시도 오류
-                log.error("Expo 푸시 전송 오류 (재시도 불가)", ex);
-                throw new NotificationException(
-                        ErrorCode.NOTIFICATION_SEND_FAIL, "Expo 푸시 전송 중 비재시도 오류 발생");
+            // 429 응답이면 전체 전송 속도를 낮춤
+            if (ex instanceof ExpoHttpStatusException statusException
+                    && statusException.isTooManyRequests()) {
+                rateLimiter.onThrottled();
             }
+            // 알림 에러 코드로 저장되므로 예외 메시지 대신 길이가 정해진 코드만 남김
+            throw new NotificationException(
+                    ErrorCode.NOTIFICATION_SEND_RETRYABLE, "Expo 푸시 전송 실패: " + failureCode(ex));
+
+        } catch (Exception ex) {
+            // 잘못된 페이로드 등 비재시도 오류
+            log.error("Expo 푸시 전송 오류 (재시도 불가)", ex);
+            throw new NotificationException(
+                    ErrorCode.NOTIFICATION_SEND_FAIL, "Expo 푸시 전송 중 비재시도 오류 발생");
         }
     }
 
-    private void backoff(int attempt) {
-
-        long sleepMs = 1000L << (attempt - 1);
-        log.info("{}ms 대기 후 재시도", sleepMs);
-
-        try {
-            Thread.sleep(sleepMs);
-        } catch (InterruptedException ignored) {
-            Thread.currentThread().interrupt();
-        }
+    /** 전송 실패 코드 (HTTP 상태가 있으면 HTTP_429 같은 형태, 없으면 예외 종류) */
+    private static String failureCode(IOException ex) {
+        return (ex instanceof ExpoHttpStatusException statusException)
+                ? "HTTP_" + statusException.getStatusCode()
+                : ex.getClass().getSimpleName();
     }
 }
@@ -0,0 +1,31 @@
+package backend.medsnap.domain.notification.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import backend.medsnap.domain.notification.entity.NotificationKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** 내부(스케줄러/서비스)에서 알림을 일괄 생성할 때 사용하는 명령 객체 */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationCreateCommand {
+
+    private final Long userId;
+
+    private final String title;
+
+    private final String body;
+
+    private final Map<String, Object> data;
+
+    private final LocalDateTime scheduledAt;
+
+    // 복약 알림인 경우 대상 복약 기록과 알림 종류
+    private final Long medicationRecordId;
+
+    private final NotificationKind kind;
+}
@@ -5,11 +5,16 @@ import java.util.Map;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import org.hibernate.type.SqlTypes;
 
+import backend.medsnap.domain.medicationRecord.entity.MedicationRecord;
+import backend.medsnap.domain.notification.util.NotificationDedupeKey;
 import backend.medsnap.domain.user.entity.User;
 import backend.medsnap.global.entity.BaseEntity;
 import lombok.AccessLevel;
@@ -23,8 +28,8 @@ import lombok.NoArgsConstructor;
         name = "notifications",
         uniqueConstraints = {
             @UniqueConstraint(
-                    name = "ux_notifications_dedupe",
-                    columnNames = {"user_id", "scheduled_at", "title", "body"})
+                    name = "ux_notifications_dedupe_key",
+                    columnNames = {"scheduled_at", "dedupe_key"})
         })
 @SQLDelete(sql = "UPDATE notifications SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
@@ -48,16 +53,42 @@ public class Notification extends BaseEntity {
     @Column(columnDefinition = "jsonb")
     private Map<String, Object> data;
 
+    // 월별 파티션 키 (db/notifications_partitioning.sql)
+    @Column(nullable = false)
     private LocalDateTime scheduledAt;
 
+    // 복약 알림이 대상으로 하는 복약 기록과 알림 종류 (복약 알림이 아니면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "medication_record_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private MedicationRecord medicationRecord;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private NotificationKind kind;
+
+    // (user_id, title, body)의 64비트 해시 - 기존 행은 NotificationDedupeKeyBackfill이 채운 뒤 NOT NULL로 전환
+    private Long dedupeKey;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 32)
     private NotificationStatus status;
 
-    private String providerMessageId;
-
     private String errorCode;
 
+    // 전송을 위해 알림을 점유한 노드와 점유 만료 시각 (DISPATCHING 상태에서만 설정)
+    @Column(length = 128)
+    private String claimedBy;
+
+    private LocalDateTime claimExpiresAt;
+
+    // 일시적 오류로 실패한 전송 횟수와 다음 재시도 시각 (RETRY_SCHEDULED 상태에서만 설정)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer attemptCount;
+
+    private LocalDateTime nextAttemptAt;
+
     private Notification(
             User user,
             String title,
@@ -69,7 +100,9 @@ public class Notification extends BaseEntity {
         this.body = body;
         this.data = data;
         this.scheduledAt = scheduledAt;
+        this.dedupeKey = NotificationDedupeKey.of(user.getId(), title, body);
         this.status = NotificationStatus.SCHEDULED;
+        this.attemptCount = 0;
     }
 
     public static Notification create(
@@ -81,9 +114,23 @@ public class Notification extends BaseEntity {
         return new Notification(user, title, body, data, scheduledAt);
     }
 
-    public void markSent(String messageIds) {
+    public boolean isClaimedBy(String node) {
+        return status == NotificationStatus.DISPATCHING && node.equals(claimedBy);
+    }
+
+    public void markSent() {
         this.status = NotificationStatus.SENT;
-        this.providerMessageId = messageIds;
+        this.nextAttemptAt = null;
+        releaseClaim();
+    }
+
+    /** 일시적 오류로 실패한 전송을 다음 시각에 재시도하도록 예약 */
+    public void scheduleRetry(String errorCode, LocalDateTime nextAttemptAt) {
+        this.status = NotificationStatus.RETRY_SCHEDULED;
+        this.errorCode = errorCode;
+        this.attemptCount = attemptCount + 1;
+        this.nextAttemptAt = nextAttemptAt;
+        releaseClaim();
     }
 
     public void markDelivered() {
@@ -93,9 +140,17 @@ public class Notification extends BaseEntity {
     public void markProviderError(String errorCode) {
         this.status = NotificationStatus.PROVIDER_ERROR;
         this.errorCode = errorCode;
+        this.nextAttemptAt = null;
+        releaseClaim();
     }
 
     public void cancel() {
         this.status = NotificationStatus.CANCELED;
+        releaseClaim();
+    }
+
+    private void releaseClaim() {
+        this.claimedBy = null;
+        this.claimExpiresAt = null;
     }
 }
@@ -0,0 +1,7 @@
+package backend.medsnap.domain.notification.entity;
+
+/** 복약 알림 종류 (사전 알림 → firstAlarmAt, 정시 알림 → secondAlarmAt) */
+public enum NotificationKind {
+    PRE,
+    ON_TIME
+}
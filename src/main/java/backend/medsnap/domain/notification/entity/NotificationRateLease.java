@@ -0,0 +1,41 @@
+package backend.medsnap.domain.notification.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import backend.medsnap.global.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 노드별 Expo 전송 속도 몫 산정을 위한 heartbeat (최근 요청량 포함) */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "notification_rate_leases",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "UK_NOTIFICATION_RATE_LEASE_NODE",
+                    columnNames = {"node_id"})
+        })
+public class NotificationRateLease extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 128)
+    private String nodeId;
+
+    // 직전 heartbeat 구간에 이 노드가 요청한 초당 토큰 수
+    @Column(nullable = false)
+    private Double demand;
+
+    // 마지막 재계산에서 이 노드가 받아 적용 중인 초당 토큰 수 (다른 노드의 몫 상한 계산용)
+    private Double share;
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+}
@@ -2,6 +2,8 @@ package backend.medsnap.domain.notification.entity;
 
 public enum NotificationStatus {
     SCHEDULED,
+    DISPATCHING,
+    RETRY_SCHEDULED,
     SENT,
     PROVIDER_ERROR,
     DELIVERED,
@@ -0,0 +1,64 @@
+package backend.medsnap.domain.notification.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import backend.medsnap.global.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** Expo 전송 티켓 (알림의 토큰별 전송 한 건) - 리시트 확인 결과를 티켓 단위로 기록 */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "notification_tickets",
+        indexes = {
+            @Index(name = "idx_notification_tickets_notification", columnList = "notification_id"),
+            @Index(name = "idx_notification_tickets_ticket", columnList = "ticket_id")
+        })
+public class NotificationTicket extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Expo가 발급한 티켓 ID (Expo가 유일성을 보장하지 않으므로 유니크 제약을 두지 않음)
+    @Column(nullable = false, length = 64)
+    private String ticketId;
+
+    // notifications는 (id, scheduled_at) 기준 파티션 테이블일 수 있어 id만으로 FK를 걸지 않음
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(
+            name = "notification_id",
+            nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Notification notification;
+
+    // 이 티켓으로 전송한 푸시 토큰 (DeviceNotRegistered 시 이 토큰만 비활성화)
+    @Column(nullable = false)
+    private String token;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private NotificationTicketStatus status;
+
+    private String errorCode;
+
+    // 마지막으로 리시트를 확인한 시각
+    private LocalDateTime checkedAt;
+
+    private NotificationTicket(Notification notification, String ticketId, String token) {
+        this.notification = notification;
+        this.ticketId = ticketId;
+        this.token = token;
+        this.status = NotificationTicketStatus.PENDING;
+    }
+
+    public static NotificationTicket create(
+            Notification notification, String ticketId, String token) {
+        return new NotificationTicket(notification, ticketId, token);
+    }
+}
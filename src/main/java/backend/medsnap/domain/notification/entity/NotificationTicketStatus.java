@@ -0,0 +1,8 @@
+package backend.medsnap.domain.notification.entity;
+
+public enum NotificationTicketStatus {
+    PENDING,
+    DELIVERED,
+    FAILED,
+    EXPIRED
+}
@@ -0,0 +1,15 @@
+package backend.medsnap.domain.notification.event;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 알림이 새로 예약되었음을 알리는 이벤트 (발송 예정 시각 목록, null은 즉시 발송) */
+@Getter
+@RequiredArgsConstructor
+public class NotificationScheduledEvent {
+
+    private final Set<LocalDateTime> scheduledAts;
+}
@@ -0,0 +1,60 @@
+package backend.medsnap.domain.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import backend.medsnap.domain.notification.entity.NotificationRateLease;
+
+@Repository
+public interface NotificationRateLeaseRepository
+        extends JpaRepository<NotificationRateLease, Long> {
+
+    /** 노드 heartbeat 갱신 (행이 없으면 생성) */
+    @Modifying
+    @Query(
+            value =
+                    """
+        INSERT INTO notification_rate_leases
+            (node_id, demand, heartbeat_at, created_at, updated_at)
+        VALUES
+            (:nodeId, :demand, :now, :now, :now)
+        ON CONFLICT (node_id) DO UPDATE
+        SET demand = EXCLUDED.demand,
+            heartbeat_at = EXCLUDED.heartbeat_at,
+            updated_at = EXCLUDED.updated_at
+        """,
+            nativeQuery = true)
+    int heartbeat(
+            @Param("nodeId") String nodeId,
+            @Param("demand") double demand,
+            @Param("now") LocalDateTime now);
+
+    /** 노드들의 몫 재계산을 직렬화하는 트랜잭션 범위 advisory lock (커밋/롤백 시 해제) */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    Integer lockRebalance(@Param("key") long key);
+
+    /** 이 노드에 적용할 몫 기록 */
+    @Modifying
+    @Query("UPDATE NotificationRateLease l SET l.share = :share WHERE l.nodeId = :nodeId")
+    int updateShare(@Param("nodeId") String nodeId, @Param("share") double share);
+
+    /** heartbeat가 유효한 노드 목록 */
+    @Query("SELECT l FROM NotificationRateLease l WHERE l.heartbeatAt >= :since")
+    List<NotificationRateLease> findActiveSince(@Param("since") LocalDateTime since);
+
+    /** heartbeat가 끊긴 노드(죽은 노드) 정리 */
+    @Modifying
+    @Query("DELETE FROM NotificationRateLease l WHERE l.heartbeatAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+
+    /** 종료하는 노드의 몫 반납 */
+    @Modifying
+    @Query("DELETE FROM NotificationRateLease l WHERE l.nodeId = :nodeId")
+    int deleteByNodeId(@Param("nodeId") String nodeId);
+}
@@ -1,9 +1,11 @@
 package backend.medsnap.domain.notification.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,37 +15,277 @@ import backend.medsnap.domain.notification.entity.Notification;
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    /**
+     * 발송(재시도) 시각이 된 알림을 점유(SCHEDULED/RETRY_SCHEDULED → DISPATCHING)하고 점유한 ID 반환
+     *
+     * <p>점유 노드와 만료 시각을 같은 UPDATE에서 설정하므로, 트랜잭션이 끝난 뒤에도 다른 노드가 같은 알림을 가져가지 않는다.
+     *
+     * <p>상태별로 각자의 발송 시각 순서로 조회해야 부분 인덱스(idx_notifications_scheduled_due,
+     * idx_notifications_retry_due)를 그대로 탈 수 있으므로 두 갈래로 나누어 점유한다. 예약 알림을 먼저 채우고 남은 자리만큼 재시도
+     * 알림을 점유한다.
+     */
     @Query(
             value =
                     """
-        SELECT * FROM notifications
-        WHERE status = 'SCHEDULED'
-        AND (scheduled_at IS NULL OR scheduled_at <= CURRENT_TIMESTAMP AT TIME ZONE 'Asia/Seoul')
-        ORDER BY id
-        FOR UPDATE SKIP LOCKED
-        LIMIT :limit
+        WITH due_scheduled AS (
+            SELECT id FROM notifications
+            WHERE status = 'SCHEDULED'
+            AND scheduled_at <= :now
+            AND deleted_at IS NULL
+            ORDER BY scheduled_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ),
+        due_retry AS (
+            SELECT id FROM notifications
+            WHERE status = 'RETRY_SCHEDULED'
+            AND next_attempt_at <= :now
+            AND deleted_at IS NULL
+            ORDER BY next_attempt_at, id
+            LIMIT GREATEST(:limit - (SELECT COUNT(*) FROM due_scheduled), 0)
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE notifications
+        SET status = 'DISPATCHING',
+            claimed_by = :owner,
+            claim_expires_at = :claimExpiresAt,
+            updated_at = :now
+        WHERE id IN (
+            SELECT id FROM due_scheduled
+            UNION ALL
+            SELECT id FROM due_retry)
+        RETURNING id
+        """,
+            nativeQuery = true)
+    List<Long> claimDueForDispatch(
+            @Param("limit") int limit,
+            @Param("owner") String owner,
+            @Param("claimExpiresAt") LocalDateTime claimExpiresAt,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * [전송 전] 이 노드가 아직 점유 중인 알림의 점유 만료 시각을 연장하고 점유가 유지된 ID 반환
+     *
+     * <p>점유가 만료되어 회수되었거나 다른 노드가 다시 점유한 알림은 반환되지 않으므로 전송하지 않는다.
+     */
+    @Query(
+            value =
+                    """
+        UPDATE notifications
+        SET claim_expires_at = :claimExpiresAt
+        WHERE id IN (:ids)
+        AND status = 'DISPATCHING'
+        AND claimed_by = :owner
+        RETURNING id
+        """,
+            nativeQuery = true)
+    List<Long> extendClaims(
+            @Param("ids") Collection<Long> ids,
+            @Param("owner") String owner,
+            @Param("claimExpiresAt") LocalDateTime claimExpiresAt);
+
+    /** [전송 결과] 전송 성공 반영 (조회 없이 상태만 갱신, 점유를 잃었으면 0 반환) */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notifications
+        SET status = 'SENT',
+            next_attempt_at = NULL,
+            claimed_by = NULL,
+            claim_expires_at = NULL,
+            updated_at = :now
+        WHERE id = :id
+        AND status = 'DISPATCHING'
+        AND claimed_by = :owner
+        """,
+            nativeQuery = true)
+    int markSent(
+            @Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /** [전송 결과] 최종 실패 반영 (점유를 잃었으면 0 반환) */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notifications
+        SET status = 'PROVIDER_ERROR',
+            error_code = :errorCode,
+            next_attempt_at = NULL,
+            claimed_by = NULL,
+            claim_expires_at = NULL,
+            updated_at = :now
+        WHERE id = :id
+        AND status = 'DISPATCHING'
+        AND claimed_by = :owner
+        """,
+            nativeQuery = true)
+    int markProviderError(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("errorCode") String errorCode,
+            @Param("now") LocalDateTime now);
+
+    /** [전송 결과] 일시적 오류로 재시도 예약 (점유를 잃었으면 0 반환) */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notifications
+        SET status = 'RETRY_SCHEDULED',
+            error_code = :errorCode,
+            attempt_count = attempt_count + 1,
+            next_attempt_at = :nextAttemptAt,
+            claimed_by = NULL,
+            claim_expires_at = NULL,
+            updated_at = :now
+        WHERE id = :id
+        AND status = 'DISPATCHING'
+        AND claimed_by = :owner
+        """,
+            nativeQuery = true)
+    int scheduleRetry(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("errorCode") String errorCode,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("now") LocalDateTime now);
+
+    /** [웨이크업용] 기간 내 발송 대기 알림의 서로 다른 발송 예정 시각 */
+    @Query(
+            "SELECT DISTINCT n.scheduledAt FROM Notification n "
+                    + "WHERE n.status = 'SCHEDULED' "
+                    + "AND n.scheduledAt > :from "
+                    + "AND n.scheduledAt <= :to")
+    List<LocalDateTime> findDistinctScheduledAtBetween(
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** [웨이크업용] 기간 내 재시도 대기 알림의 서로 다른 재시도 시각 */
+    @Query(
+            "SELECT DISTINCT n.nextAttemptAt FROM Notification n "
+                    + "WHERE n.status = 'RETRY_SCHEDULED' "
+                    + "AND n.nextAttemptAt > :from "
+                    + "AND n.nextAttemptAt <= :to")
+    List<LocalDateTime> findDistinctNextAttemptAtBetween(
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** [웨이크업용] 이미 발송(재시도) 시각이 지난 대기 알림 존재 여부 (점유 회수, 전송 실패 후 남은 알림) */
+    @Query(
+            "SELECT COUNT(n) > 0 FROM Notification n "
+                    + "WHERE (n.status = 'SCHEDULED' AND n.scheduledAt <= :now) "
+                    + "OR (n.status = 'RETRY_SCHEDULED' AND n.nextAttemptAt <= :now)")
+    boolean existsDueScheduled(@Param("now") LocalDateTime now);
+
+    /**
+     * 점유 만료된 알림(전송 중 노드가 죽은 경우)을 점유 전 상태로 되돌림
+     *
+     * <p>재시도 대기에서 점유된 알림(next_attempt_at 있음)은 RETRY_SCHEDULED로 되돌려 재시도 시각과 백오프를 유지한다.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notifications
+        SET status = CASE
+                WHEN next_attempt_at IS NOT NULL THEN 'RETRY_SCHEDULED'
+                ELSE 'SCHEDULED'
+            END,
+            claimed_by = NULL,
+            claim_expires_at = NULL,
+            updated_at = :now
+        WHERE status = 'DISPATCHING'
+        AND claim_expires_at < :now
         """,
             nativeQuery = true)
-    List<Notification> pickDueForDispatch(@Param("limit") int limit);
+    int releaseExpiredClaims(@Param("now") LocalDateTime now);
 
+    /** [리시트 확인용] 배달이 확인된 알림 일괄 DELIVERED 처리 */
+    @Modifying
     @Query(
-            "SELECT n "
-                    + "FROM Notification n "
-                    + "WHERE n.status = 'SENT' "
-                    + "AND n.providerMessageId IS NOT NULL "
-                    + "AND n.updatedAt >= :since")
-    List<Notification> findRecentSentWithTickets(@Param("since") java.time.LocalDateTime since);
+            value =
+                    """
+        UPDATE notifications
+        SET status = 'DELIVERED', updated_at = :now
+        WHERE id IN (:ids)
+        AND status = 'SENT'
+        """,
+            nativeQuery = true)
+    int markDeliveredByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 
+    /**
+     * [알림 취소] 약의 대기 중인 복약 알림 중 더 이상 유효하지 않은 알림을 일괄 취소
+     *
+     * <p>약이 삭제되었거나, 해당 요일/시각의 알람이 없어졌거나, 사전 알림이 꺼진 경우의 사전 알림이 대상이다. 전송 중(DISPATCHING)인 알림은
+     * 건드리지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
     @Query(
-            "SELECT COUNT(n) > 0 "
-                    + "FROM Notification n "
-                    + "WHERE n.user.id = :userId "
-                    + "AND n.scheduledAt = :scheduledAt "
-                    + "AND n.title = :title "
-                    + "AND n.body = :body")
-    boolean existsByUserIdAndScheduledAtAndTitleAndBody(
-            @Param("userId") Long userId,
-            @Param("scheduledAt") LocalDateTime scheduledAt,
-            @Param("title") String title,
-            @Param("body") String body);
+            value =
+                    """
+        UPDATE notifications n
+        SET status = 'CANCELED',
+            next_attempt_at = NULL,
+            claimed_by = NULL,
+            claim_expires_at = NULL,
+            updated_at = :now
+        FROM medication_records mr
+        JOIN medications m ON m.id = mr.medication_id
+        WHERE n.medication_record_id = mr.id
+        AND mr.medication_id = :medicationId
+        AND n.status IN ('SCHEDULED', 'RETRY_SCHEDULED')
+        AND (m.deleted_at IS NOT NULL
+            OR (n.kind = 'PRE' AND m.pre_notify IS NOT TRUE)
+            OR NOT EXISTS (
+                SELECT 1 FROM medication_alarms a
+                WHERE a.medication_id = mr.medication_id
+                AND a.deleted_at IS NULL
+                AND a.dose_time = mr.dose_time
+                AND a.day_of_week = to_char(mr.record_date, 'DY')))
+        """,
+            nativeQuery = true)
+    int cancelStaleByMedicationId(
+            @Param("medicationId") Long medicationId, @Param("now") LocalDateTime now);
+
+    /** [알림 취소] 사용자의 대기 중인 알림 일괄 취소 */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value =
+                    """
+        UPDATE notifications
+        SET status = 'CANCELED',
+            next_attempt_at = NULL,
+            claimed_by = NULL,
+            claim_expires_at = NULL,
+            updated_at = :now
+        WHERE user_id = :userId
+        AND status IN ('SCHEDULED', 'RETRY_SCHEDULED')
+        """,
+            nativeQuery = true)
+    int cancelPendingByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /** [중복 키 백필용] id 순서로 중복 키가 없는 알림 ID 조회 (삭제된 알림 포함) */
+    @Query(
+            value =
+                    """
+        SELECT id FROM notifications
+        WHERE id > :afterId
+        AND dedupe_key IS NULL
+        ORDER BY id
+        LIMIT :limit
+        """,
+            nativeQuery = true)
+    List<Long> findIdsWithoutDedupeKey(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /** [중복 키 백필용] 중복 키 일괄 계산 (schema.sql의 notification_dedupe_key 함수) */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notifications
+        SET dedupe_key = notification_dedupe_key(user_id, title, body)
+        WHERE id IN (:ids)
+        AND dedupe_key IS NULL
+        """,
+            nativeQuery = true)
+    int fillDedupeKeys(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,96 @@
+package backend.medsnap.domain.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import backend.medsnap.domain.notification.entity.NotificationTicket;
+
+@Repository
+public interface NotificationTicketRepository extends JpaRepository<NotificationTicket, Long> {
+
+    /**
+     * [리시트 확인용] 아직 결과가 없는 티켓을 (created_at, id) 키셋 기준으로 페이지 조회
+     *
+     * <p>idx_notification_tickets_pending(PENDING 부분 인덱스)을 그대로 따라가므로 이미 확인된 티켓은 읽지 않는다.
+     */
+    @Query(
+            value =
+                    """
+        SELECT id AS "id", ticket_id AS "ticketId", notification_id AS "notificationId",
+            token AS "token", created_at AS "createdAt"
+        FROM notification_tickets
+        WHERE status = 'PENDING'
+        AND (created_at, id) > (:afterCreatedAt, :afterId)
+        AND created_at <= :until
+        ORDER BY created_at, id
+        LIMIT :limit
+        """,
+            nativeQuery = true)
+    List<PendingTicketView> findPendingPage(
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until,
+            @Param("limit") int limit);
+
+    /** [리시트 확인용] 배달 확인된 티켓 일괄 DELIVERED 처리 */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notification_tickets
+        SET status = 'DELIVERED', checked_at = :now, updated_at = :now
+        WHERE id IN (:ids)
+        AND status = 'PENDING'
+        """,
+            nativeQuery = true)
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /** [리시트 확인용] 배달 실패한 티켓 일괄 FAILED 처리 (같은 에러 코드끼리) */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notification_tickets
+        SET status = 'FAILED', error_code = :errorCode, checked_at = :now, updated_at = :now
+        WHERE id IN (:ids)
+        AND status = 'PENDING'
+        """,
+            nativeQuery = true)
+    int markFailed(
+            @Param("ids") Collection<Long> ids,
+            @Param("errorCode") String errorCode,
+            @Param("now") LocalDateTime now);
+
+    /** [리시트 확인용] 아직 리시트가 없는 티켓의 확인 시각만 기록 */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notification_tickets
+        SET checked_at = :now
+        WHERE id IN (:ids)
+        AND status = 'PENDING'
+        """,
+            nativeQuery = true)
+    int markChecked(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /** [리시트 확인용] Expo가 리시트를 보관하지 않는 기간이 지난 티켓 만료 처리 */
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE notification_tickets
+        SET status = 'EXPIRED', updated_at = :now
+        WHERE status = 'PENDING'
+        AND created_at < :before
+        """,
+            nativeQuery = true)
+    int expirePending(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,17 @@
+package backend.medsnap.domain.notification.repository;
+
+import java.time.LocalDateTime;
+
+/** 리시트 확인 대상 티켓 조회 결과 */
+public interface PendingTicketView {
+
+    Long getId();
+
+    String getTicketId();
+
+    Long getNotificationId();
+
+    String getToken();
+
+    LocalDateTime getCreatedAt();
+}
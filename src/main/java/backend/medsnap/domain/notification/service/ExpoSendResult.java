@@ -0,0 +1,107 @@
+package backend.medsnap.domain.notification.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import backend.medsnap.domain.notification.exception.NotificationException;
+import backend.medsnap.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 알림 하나에 대한 Expo API 호출 결과 (여러 청크/배치 요청에 걸쳐 누적) */
+public class ExpoSendResult {
+
+    // notifications.error_code / notification_tickets.error_code 컬럼 길이
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final List<SentTicket> successTickets = new ArrayList<>();
+    private final List<String> invalidTokens = new ArrayList<>();
+    private boolean hasError;
+    private boolean retryable;
+    private boolean permanentError;
+    private String errorMessage;
+
+    void addSuccessTicket(String ticketId, String token) {
+        successTickets.add(new SentTicket(ticketId, token));
+    }
+
+    void addSuccessTickets(Collection<SentTicket> tickets) {
+        successTickets.addAll(tickets);
+    }
+
+    void addError(String errorMessage) {
+        recordError(errorMessage);
+        this.permanentError = true;
+    }
+
+    /** 일시적 오류 (네트워크/서버 오류, 속도 제한) - 다른 오류가 없으면 재시도 대상 */
+    void addRetryableError(String errorMessage) {
+        recordError(errorMessage);
+        this.retryable = true;
+    }
+
+    /** 티켓 에러 반영 (속도 제한은 재시도 대상) */
+    void addTicketError(String error) {
+        if ("MessageRateExceeded".equals(error)) {
+            addRetryableError(error);
+        } else {
+            addError(error);
+        }
+    }
+
+    /** 요청 자체의 실패 반영 (네트워크/서버 오류는 재시도 대상) */
+    void addSendFailure(Exception e) {
+        String message = "Expo API 호출 실패: " + e.getMessage();
+        if (e instanceof NotificationException ne
+                && ne.getErrorCode() == ErrorCode.NOTIFICATION_SEND_RETRYABLE) {
+            addRetryableError(message);
+        } else {
+            addError(message);
+        }
+    }
+
+    private void recordError(String errorMessage) {
+        this.hasError = true;
+        this.errorMessage =
+                (errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH)
+                        ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                        : errorMessage;
+    }
+
+    void addInvalidTokens(Collection<String> tokens) {
+        invalidTokens.addAll(tokens);
+    }
+
+    public List<SentTicket> getSuccessTickets() {
+        return successTickets;
+    }
+
+    public List<String> getSuccessTicketIds() {
+        return successTickets.stream().map(SentTicket::getTicketId).toList();
+    }
+
+    public boolean hasError() {
+        return hasError;
+    }
+
+    public boolean isRetryable() {
+        return retryable && !permanentError;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public List<String> getInvalidTokens() {
+        return invalidTokens;
+    }
+
+    /** 전송에 성공한 티켓 하나 (티켓 ID, 대상 토큰) */
+    @Getter
+    @RequiredArgsConstructor
+    public static class SentTicket {
+        private final String ticketId;
+        private final String token;
+    }
+}
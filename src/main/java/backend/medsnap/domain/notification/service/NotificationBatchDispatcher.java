@@ -0,0 +1,188 @@
+package backend.medsnap.domain.notification.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.niamedtech.expo.exposerversdk.request.PushNotification;
+import com.niamedtech.expo.exposerversdk.response.Status;
+import com.niamedtech.expo.exposerversdk.response.TicketResponse;
+
+import backend.medsnap.domain.notification.client.ExpoPushClient;
+import backend.medsnap.domain.notification.entity.Notification;
+import backend.medsnap.domain.notification.util.RateLimiter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 알림의 메시지를 묶어 Expo 요청 한 번(최대 100건)으로 전송
+ *
+ * <p>메시지는 (알림 묶음, 토큰)마다 하나씩 만들고, Expo가 요청 순서대로 돌려주는 티켓을 위치 기준으로 원래 알림에 매핑한다. 결과 반영(성공/실패/무효
+ * 토큰 정리)은 묶음마다 별도 트랜잭션으로 처리하며, 이 클래스는 전송 동안 트랜잭션을 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchDispatcher {
+
+    private static final int MAX_MESSAGES_PER_REQUEST = 100;
+
+    private final NotificationDispatchService dispatchService;
+    private final NotificationCoalescer coalescer;
+    private final ExpoPushClient expoClient;
+    private final RateLimiter rateLimiter;
+
+    public void dispatch(List<Notification> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 전송 직전 점유 확인 (점유를 잃은 알림은 다른 노드가 전송)
+        List<Notification> owned = dispatchService.retainOwnedClaims(batch);
+        if (owned.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<String>> tokensByUser = dispatchService.findActiveTokens(owned);
+
+        // 묶음은 대표 알림 ID로 식별
+        Map<Long, NotificationGroup> groups = new LinkedHashMap<>();
+        Map<Long, ExpoSendResult> results = new LinkedHashMap<>();
+        List<OutboundMessage> messages = new ArrayList<>();
+
+        for (NotificationGroup group : coalescer.group(owned)) {
+            Long leaderId = group.getLeader().getId();
+            ExpoSendResult result = new ExpoSendResult();
+            groups.put(leaderId, group);
+            results.put(leaderId, result);
+
+            List<String> tokens = tokensByUser.getOrDefault(group.getUserId(), List.of());
+            if (tokens.isEmpty()) {
+                log.warn("활성 푸시 토큰 없음: userId={}", group.getUserId());
+                result.addError("No Active Push Token");
+                continue;
+            }
+
+            for (String token : tokens) {
+                messages.add(
+                        new OutboundMessage(leaderId, token, toPushNotification(group, token)));
+            }
+        }
+
+        int requests = 0;
+        for (int from = 0; from < messages.size(); from += MAX_MESSAGES_PER_REQUEST) {
+            List<OutboundMessage> chunk =
+                    messages.subList(
+                            from, Math.min(from + MAX_MESSAGES_PER_REQUEST, messages.size()));
+            send(chunk, results);
+            requests++;
+        }
+
+        log.info(
+                "배치 전송: 알림 {}개, 푸시 {}건, 메시지 {}건, Expo 요청 {}회",
+                owned.size(),
+                groups.size(),
+                messages.size(),
+                requests);
+
+        // 묶음 단위로 결과 반영 (프록시 경유 → REQUIRES_NEW 유효)
+        List<Notification> sent = new ArrayList<>(owned.size());
+        for (Map.Entry<Long, ExpoSendResult> entry : results.entrySet()) {
+            NotificationGroup group = groups.get(entry.getKey());
+            try {
+                sent.addAll(dispatchService.applyResult(group, entry.getValue()));
+            } catch (Exception e) {
+                log.error(
+                        "알림 결과 반영 중 예외 발생: notificationId={}, error={}",
+                        entry.getKey(),
+                        e.getMessage(),
+                        e);
+            }
+        }
+
+        // 복약 기록 알림 시각은 배치 단위로 한 번에 기록
+        if (!sent.isEmpty()) {
+            try {
+                dispatchService.recordAlarmsSent(sent);
+            } catch (Exception e) {
+                log.error("복약 기록 알림 시간 업데이트 실패: 알림 {}개", sent.size(), e);
+            }
+        }
+    }
+
+    /** 메시지 묶음을 한 번의 요청으로 전송하고 티켓을 위치 기준으로 각 알림 결과에 누적 */
+    private void send(List<OutboundMessage> chunk, Map<Long, ExpoSendResult> results) {
+        List<TicketResponse.Ticket> tickets;
+        try {
+            // Rate Limiting 적용
+            rateLimiter.acquire(chunk.size());
+            tickets =
+                    expoClient.send(
+                            chunk.stream().map(OutboundMessage::getPushNotification).toList());
+        } catch (Exception e) {
+            log.error("Expo 배치 요청 실패: 메시지 {}건, error={}", chunk.size(), e.getMessage(), e);
+            for (OutboundMessage message : chunk) {
+                results.get(message.getNotificationId()).addSendFailure(e);
+            }
+            return;
+        }
+
+        if (tickets.size() != chunk.size()) {
+            log.warn("Expo 티켓 수 불일치: 요청 {}건, 응답 {}건", chunk.size(), tickets.size());
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            OutboundMessage message = chunk.get(i);
+            ExpoSendResult result = results.get(message.getNotificationId());
+
+            if (i >= tickets.size()) {
+                result.addError("Missing Ticket");
+                continue;
+            }
+
+            TicketResponse.Ticket ticket = tickets.get(i);
+            if (ticket.getStatus() == Status.OK) {
+                if (ticket.getId() != null) {
+                    result.addSuccessTicket(ticket.getId(), message.getToken());
+                }
+                continue;
+            }
+
+            String error = NotificationDispatchService.ticketError(ticket);
+            log.warn("Expo 티켓 에러: notificationId={}, error={}", message.getNotificationId(), error);
+            result.addTicketError(error);
+
+            // 속도 제한 티켓이면 전체 전송 속도를 낮춤
+            if ("MessageRateExceeded".equals(error)) {
+                rateLimiter.onThrottled();
+            }
+
+            // 메시지마다 토큰이 하나이므로 해당 토큰만 무효 처리
+            if ("DeviceNotRegistered".equals(error)) {
+                result.addInvalidTokens(List.of(message.getToken()));
+            }
+        }
+    }
+
+    private static PushNotification toPushNotification(NotificationGroup group, String token) {
+        PushNotification pushNotification = new PushNotification();
+        pushNotification.setTo(List.of(token));
+        pushNotification.setTitle(group.getTitle());
+        pushNotification.setBody(group.getBody());
+        pushNotification.setData(group.getData());
+        return pushNotification;
+    }
+
+    /** 요청에 담길 메시지 하나 (알림, 대상 토큰) */
+    @Getter
+    @RequiredArgsConstructor
+    private static class OutboundMessage {
+        private final Long notificationId;
+        private final String token;
+        private final PushNotification pushNotification;
+    }
+}
@@ -0,0 +1,28 @@
+package backend.medsnap.domain.notification.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/** 전송 중 노드가 죽어 점유(DISPATCHING)가 만료된 알림을 주기적으로 발송 대기 상태로 되돌림 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationClaimReaper {
+
+    private final NotificationDispatchService dispatchService;
+
+    @Scheduled(fixedDelayString = "${scheduler.notification.dispatch.reaper-delay-ms:60000}")
+    public void releaseExpiredClaims() {
+        try {
+            int released = dispatchService.releaseExpiredClaims();
+            if (released > 0) {
+                log.warn("점유 만료 알림 {}개를 발송 대기 상태로 되돌림", released);
+            }
+        } catch (Exception e) {
+            log.error("점유 만료 알림 회수 중 예외 발생", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package backend.medsnap.domain.notification.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import backend.medsnap.domain.notification.entity.Notification;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점유한 배치에서 같은 사용자의 동시 복약 알림을 요약 푸시 하나로 묶음
+ *
+ * <p>같은 사용자, 같은 종류(사전/정시)의 복약 알림 중 발송 예정 시각이 묶음의 첫 알림으로부터 window 안에 있는 것을 최대 max-group-size개까지
+ * 묶는다. 복약 알림이 아닌 알림(종류 없음)은 묶지 않는다. 배치 경계에서 나뉜 알림은 다음 배치에서 따로 묶인다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    @Value("${scheduler.notification.dispatch.coalescing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scheduler.notification.dispatch.coalescing.window-seconds:60}")
+    private long windowSeconds;
+
+    @Value("${scheduler.notification.dispatch.coalescing.max-group-size:20}")
+    private int maxGroupSize;
+
+    /** 배치를 전송 단위로 나눔 (비활성화 시 알림마다 하나의 묶음) */
+    public List<NotificationGroup> group(List<Notification> batch) {
+        if (!enabled) {
+            return batch.stream().map(NotificationGroup::single).toList();
+        }
+
+        // (사용자, 종류)별 후보 수집 - 복약 알림이 아니면 단독 전송
+        Map<String, List<Notification>> candidates = new LinkedHashMap<>();
+        List<List<Notification>> memberLists = new ArrayList<>();
+        for (Notification n : batch) {
+            if (n.getKind() == null) {
+                memberLists.add(List.of(n));
+                continue;
+            }
+            String key = n.getUser().getId() + ":" + n.getKind();
+            candidates.computeIfAbsent(key, ignored -> new ArrayList<>()).add(n);
+        }
+
+        Duration window = Duration.ofSeconds(windowSeconds);
+        int limit = Math.max(1, maxGroupSize);
+        for (List<Notification> sameUserKind : candidates.values()) {
+            sameUserKind.sort(
+                    Comparator.comparing(Notification::getScheduledAt)
+                            .thenComparing(Notification::getId));
+
+            List<Notification> current = new ArrayList<>();
+            for (Notification n : sameUserKind) {
+                if (!current.isEmpty()
+                        && (current.size() >= limit
+                                || n.getScheduledAt()
+                                        .isAfter(current.get(0).getScheduledAt().plus(window)))) {
+                    memberLists.add(current);
+                    current = new ArrayList<>();
+                }
+                current.add(n);
+            }
+            memberLists.add(current);
+        }
+
+        List<NotificationGroup> groups =
+                memberLists.stream()
+                        .sorted(Comparator.comparing(members -> members.get(0).getId()))
+                        .map(NotificationGroup::of)
+                        .toList();
+
+        if (groups.size() < batch.size()) {
+            log.info("알림 묶음 전송: 알림 {}개 → 푸시 {}건", batch.size(), groups.size());
+        }
+        return groups;
+    }
+}
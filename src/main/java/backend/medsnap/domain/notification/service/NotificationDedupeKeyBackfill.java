@@ -0,0 +1,77 @@
+package backend.medsnap.domain.notification.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 알림의 dedupe_key를 배치 단위로 채우는 1회성 백필
+ *
+ * <p>id 순서로 batch-size개씩 각각의 트랜잭션에서 채우고, 더 채울 알림이 없으면 기존 (user_id, scheduled_at, title, body) 유니크
+ * 제약을 제거한 뒤 dedupe_key를 NOT NULL로 바꾼다. 백필 중에도 기존 제약이 남아 있으므로 중복 규칙은 끊기지 않는다.
+ * 이미 전환이 끝난 DB(카탈로그 기준)에서는 조회나 DDL 없이 바로 종료한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDedupeKeyBackfill {
+
+    private final NotificationService notificationService;
+
+    @Value("${notification.dedupe-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.dedupe-backfill.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${notification.dedupe-backfill.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private long lastId;
+    private long batches;
+    private volatile boolean completed;
+
+    @Scheduled(fixedDelayString = "${notification.dedupe-backfill.delay-ms:10000}")
+    public void run() {
+        if (!enabled || completed) {
+            return;
+        }
+
+        try {
+            // 이전 실행(또는 다른 노드)에서 전환이 끝났다면 테이블을 다시 훑지 않음
+            if (notificationService.isDedupeKeyMigrationCompleted()) {
+                completed = true;
+                log.info("알림 중복 키 전환이 이미 완료되어 백필을 건너뜀");
+                return;
+            }
+
+            for (int i = 0; i < Math.max(1, maxBatchesPerRun); i++) {
+                Long processedUntil = notificationService.fillDedupeKeys(lastId, batchSize);
+                if (processedUntil == null) {
+                    complete();
+                    return;
+                }
+                batches++;
+                lastId = processedUntil;
+            }
+            log.info("알림 중복 키 백필 진행 중: lastId={}", lastId);
+        } catch (Exception e) {
+            log.error("알림 중복 키 백필 중 예외 발생: lastId={}", lastId, e);
+        }
+    }
+
+    private void complete() {
+        try {
+            notificationService.completeDedupeKeyMigration();
+            completed = true;
+            log.info("알림 중복 키 백필 완료: 배치 {}개 처리, 기존 유니크 제약 제거", batches);
+        } catch (Exception e) {
+            // 백필 도중 이전 버전 노드가 키 없이 저장한 알림이 있으면 NOT NULL 전환이 실패 → 처음부터 다시 확인
+            log.error("알림 중복 키 전환 실패, 다음 실행에서 다시 확인", e);
+            lastId = 0;
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package backend.medsnap.domain.notification.service;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,14 +23,18 @@ import com.niamedtech.expo.exposerversdk.request.PushNotification;
 import com.niamedtech.expo.exposerversdk.response.Status;
 import com.niamedtech.expo.exposerversdk.response.TicketResponse;
 
-import backend.medsnap.domain.medicationRecord.entity.MedicationRecord;
 import backend.medsnap.domain.medicationRecord.repository.MedicationRecordRepository;
 import backend.medsnap.domain.notification.client.ExpoPushClient;
 import backend.medsnap.domain.notification.entity.Notification;
+import backend.medsnap.domain.notification.entity.NotificationKind;
+import backend.medsnap.domain.notification.entity.NotificationTicket;
+import backend.medsnap.domain.notification.event.NotificationScheduledEvent;
 import backend.medsnap.domain.notification.repository.NotificationRepository;
+import backend.medsnap.domain.notification.repository.NotificationTicketRepository;
 import backend.medsnap.domain.notification.util.RateLimiter;
-import backend.medsnap.domain.pushToken.entity.PushToken;
-import backend.medsnap.domain.pushToken.repository.PushTokenRepository;
+import backend.medsnap.domain.pushToken.service.PushTokenCache;
+import backend.medsnap.domain.pushToken.service.PushTokenService;
+import backend.medsnap.global.cluster.NodeIdentity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,63 +44,173 @@ import lombok.extern.slf4j.Slf4j;
 public class NotificationDispatchService {
 
     private final NotificationRepository notificationRepository;
-    private final PushTokenRepository pushTokenRepository;
+    private final NotificationTicketRepository notificationTicketRepository;
+    private final PushTokenService pushTokenService;
+    private final PushTokenCache pushTokenCache;
     private final MedicationRecordRepository medicationRecordRepository;
     private final ExpoPushClient expoClient;
     private final RateLimiter rateLimiter;
+    private final NodeIdentity nodeIdentity;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
+    // 점유 후 이 시간 안에 결과가 반영되지 않으면 리퍼가 다시 발송 대기 상태로 되돌림
+    @Value("${scheduler.notification.dispatch.claim-seconds:300}")
+    private long claimSeconds;
+
+    // 일시적 오류(네트워크/서버 오류, 속도 제한) 재시도 정책
+    @Value("${notification.retry.max-attempts:5}")
+    private int retryMaxAttempts;
+
+    @Value("${notification.retry.base-delay-seconds:30}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${notification.retry.max-delay-seconds:1800}")
+    private long retryMaxDelaySeconds;
+
+    /** 발송 시각이 된 알림을 이 노드 소유로 점유하여 조회 */
     @Transactional
     public List<Notification> fetchBatch(int limit) {
-        return notificationRepository.pickDueForDispatch(limit);
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> claimedIds =
+                notificationRepository.claimDueForDispatch(
+                        limit, nodeIdentity.getId(), now.plusSeconds(claimSeconds), now);
+
+        if (claimedIds.isEmpty()) {
+            return List.of();
+        }
+
+        return notificationRepository.findAllById(claimedIds).stream()
+                .sorted(Comparator.comparing(Notification::getId))
+                .toList();
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processOne(Notification n) {
-        log.info("알림 전송 준비: notificationId={}, userId={}", n.getId(), n.getUser().getId());
+    /** 점유 만료된 알림을 다시 발송 대기 상태로 되돌림 */
+    @Transactional
+    public int releaseExpiredClaims() {
+        return notificationRepository.releaseExpiredClaims(LocalDateTime.now(clock));
+    }
 
-        // DB에서 다시 조회 (영속성 컨텍스트 내에서)
-        Notification notification =
-                notificationRepository
-                        .findById(n.getId())
-                        .orElseThrow(
-                                () ->
-                                        new IllegalStateException(
-                                                "Notification not found: " + n.getId()));
+    /** 배치 알림 사용자들의 활성 토큰을 한 번에 조회 (캐시 사용 시 캐시에 없는 사용자만 조회) */
+    public Map<Long, List<String>> findActiveTokens(List<Notification> batch) {
+        return pushTokenCache.findActiveTokens(
+                batch.stream().map(n -> n.getUser().getId()).collect(Collectors.toSet()));
+    }
 
-        var tokens = pushTokenRepository.findActiveTokensByUserId(notification.getUser().getId());
+    /**
+     * [배치 전송용] 전송 직전 점유 확인: 이 노드가 아직 점유 중인 알림만 점유를 연장하여 반환
+     *
+     * <p>조회 없이 조건부 UPDATE 한 번으로 확인하므로, 점유가 만료되어 다른 노드가 가져간 알림은 두 노드에서 중복 전송되지 않는다.
+     */
+    @Transactional
+    public List<Notification> retainOwnedClaims(List<Notification> batch) {
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        Set<Long> owned = extendClaims(batch.stream().map(Notification::getId).toList());
+        if (owned.size() == batch.size()) {
+            return batch;
+        }
+
+        log.warn("점유를 잃은 알림 {}개 전송 생략", batch.size() - owned.size());
+        return batch.stream().filter(n -> owned.contains(n.getId())).toList();
+    }
+
+    /**
+     * 점유한 알림 묶음을 푸시 한 번으로 전송하고 결과 반영
+     *
+     * <p>fetchBatch에서 불러온 알림과 배치 단위로 조회한 토큰을 그대로 사용하며, 결과는 조회 없이 상태만 갱신한다. 전송 전에 점유를 연장하여 점유를
+     * 잃은 알림은 보내지 않는다. 요약 묶음이면 결과가 묶음의 모든 알림에 똑같이 반영된다.
+     *
+     * @return 전송 성공(SENT)으로 반영된 알림
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Notification> processOne(NotificationGroup group, List<String> tokens) {
+        NotificationGroup owned = group.retain(extendClaims(group.getMemberIds()));
+        if (owned == null) {
+            log.warn("점유를 잃은 알림 전송 생략: notificationIds={}", group.getMemberIds());
+            return List.of();
+        }
+
+        Notification leader = owned.getLeader();
+        log.info(
+                "알림 전송 준비: notificationId={}, userId={}, 묶인 알림 {}개",
+                leader.getId(),
+                owned.getUserId(),
+                owned.getMembers().size());
 
         if (tokens.isEmpty()) {
-            log.warn("활성 푸시 토큰 없음: userId={}", notification.getUser().getId());
-            notification.markProviderError("No Active Push Token");
-            notificationRepository.saveAndFlush(notification);
-            return;
+            log.warn("활성 푸시 토큰 없음: userId={}", owned.getUserId());
+            LocalDateTime now = LocalDateTime.now(clock);
+            for (Notification n : owned.getMembers()) {
+                notificationRepository.markProviderError(
+                        n.getId(), nodeIdentity.getId(), "No Active Push Token", now);
+            }
+            return List.of();
         }
 
-        var tokenStrings = tokens.stream().map(PushToken::getToken).toList();
-        log.info("Expo 전송 대상 토큰 {}개", tokenStrings.size());
+        log.info("Expo 전송 대상 토큰 {}개", tokens.size());
 
         // 외부 API 호출
-        ExpoSendResult expoResult = sendToExpo(notification, tokenStrings);
+        ExpoSendResult expoResult = sendToExpo(owned, tokens);
 
         // 결과 처리
-        processExpoResult(notification, expoResult);
+        return processExpoResult(owned, expoResult);
+    }
+
+    /**
+     * [배치 전송용] 배치 디스패처가 받은 Expo 결과를 묶음 단위 트랜잭션으로 반영
+     *
+     * @return 전송 성공(SENT)으로 반영된 알림
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Notification> applyResult(NotificationGroup group, ExpoSendResult expoResult) {
+        return processExpoResult(group, expoResult);
+    }
 
-        // 명시적 저장 및 플러시
-        notificationRepository.saveAndFlush(notification);
+    /**
+     * 전송에 성공한 복약 알림의 복약 기록에 알림 시각 기록 (배치당 종류별 UPDATE 한 번)
+     *
+     * <p>사전 알림은 firstAlarmAt, 정시 알림은 secondAlarmAt에 기록하며 이미 기록된 값은 덮어쓰지 않는다.
+     */
+    @Transactional
+    public void recordAlarmsSent(Collection<Notification> sent) {
+        List<Long> preRecordIds = new ArrayList<>();
+        List<Long> onTimeRecordIds = new ArrayList<>();
 
-        // 디버깅: 상태 변경 확인
-        log.info(
-                "알림 상태 변경 완료: notificationId={}, status={}",
-                notification.getId(),
-                notification.getStatus());
+        for (Notification n : sent) {
+            if (n.getMedicationRecord() == null || n.getKind() == null) {
+                continue; // 복약 알림이 아님
+            }
+            Long recordId = n.getMedicationRecord().getId();
+            if (n.getKind() == NotificationKind.PRE) {
+                preRecordIds.add(recordId);
+            } else {
+                onTimeRecordIds.add(recordId);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!preRecordIds.isEmpty()) {
+            medicationRecordRepository.markFirstAlarmSent(preRecordIds, now);
+        }
+        if (!onTimeRecordIds.isEmpty()) {
+            medicationRecordRepository.markSecondAlarmSent(onTimeRecordIds, now);
+        }
+
+        if (!preRecordIds.isEmpty() || !onTimeRecordIds.isEmpty()) {
+            log.info(
+                    "복약 기록 알림 시간 기록: 사전 알림 {}건, 정시 알림 {}건",
+                    preRecordIds.size(),
+                    onTimeRecordIds.size());
+        }
     }
 
     /** Expo API 호출 */
-    private ExpoSendResult sendToExpo(Notification n, List<String> tokenStrings) {
-        List<String> allSuccessTicketIds = new ArrayList<>();
-        boolean hasError = false;
-        String errorMessage = null;
-        List<String> invalidTokens = new ArrayList<>();
+    private ExpoSendResult sendToExpo(NotificationGroup group, List<String> tokenStrings) {
+        ExpoSendResult result = new ExpoSendResult();
+        Notification n = group.getLeader();
 
         try {
             for (List<String> chunk : chunks(tokenStrings, 100)) {
@@ -96,51 +219,59 @@ public class NotificationDispatchService {
 
                 PushNotification pushNotification = new PushNotification();
                 pushNotification.setTo(chunk);
-                pushNotification.setTitle(n.getTitle());
-                pushNotification.setBody(n.getBody());
-                pushNotification.setData(n.getData());
+                pushNotification.setTitle(group.getTitle());
+                pushNotification.setBody(group.getBody());
+                pushNotification.setData(group.getData());
 
-                List<TicketResponse.Ticket> tickets =
-                        expoClient.sendWithRetry(List.of(pushNotification), 3);
+                List<TicketResponse.Ticket> tickets = expoClient.send(List.of(pushNotification));
 
                 boolean allOk = true;
-                List<String> successTicketIds = new ArrayList<>();
+                List<ExpoSendResult.SentTicket> successTickets = new ArrayList<>();
 
-                for (TicketResponse.Ticket t : tickets) {
+                // Expo는 수신자 순서대로 티켓을 돌려주므로 위치로 토큰을 매핑
+                for (int i = 0; i < tickets.size(); i++) {
+                    TicketResponse.Ticket t = tickets.get(i);
+                    String token = (i < chunk.size()) ? chunk.get(i) : null;
                     Status status = t.getStatus();
 
                     if (status == Status.OK) {
-                        if (t.getId() != null) successTicketIds.add(t.getId());
+                        if (t.getId() != null && token != null) {
+                            successTickets.add(new ExpoSendResult.SentTicket(t.getId(), token));
+                        }
                     } else {
                         allOk = false;
 
-                        TicketResponse.Ticket.Details details = t.getDetails();
-                        TicketResponse.Ticket.Error errEnum =
-                                (details != null) ? details.getError() : null;
-                        String error = (errEnum != null) ? errEnum.name() : "Unknown";
-
+                        String error = ticketError(t);
                         log.warn("Expo 티켓 에러: notificationId={}, error={}", n.getId(), error);
-                        errorMessage = error;
+                        result.addTicketError(error);
 
-                        // 무효 토큰 수집
-                        if ("DeviceNotRegistered".equals(error)) {
-                            invalidTokens.addAll(chunk);
+                        // 속도 제한 티켓이면 전체 전송 속도를 낮춤
+                        if ("MessageRateExceeded".equals(error)) {
+                            rateLimiter.onThrottled();
+                        }
+
+                        // 무효 토큰 수집 (해당 티켓의 토큰만)
+                        if ("DeviceNotRegistered".equals(error) && token != null) {
+                            result.addInvalidTokens(List.of(token));
                         }
                     }
                 }
 
                 if (allOk) {
-                    allSuccessTicketIds.addAll(successTicketIds);
+                    result.addSuccessTickets(successTickets);
                     log.info(
-                            "청크 전송 성공: notificationId={}, tickets={}", n.getId(), successTicketIds);
+                            "청크 전송 성공: notificationId={}, tickets={}",
+                            n.getId(),
+                            successTickets.size());
                 } else {
-                    hasError = true;
-                    log.error("청크 전송 실패: notificationId={}, error={}", n.getId(), errorMessage);
+                    log.error(
+                            "청크 전송 실패: notificationId={}, error={}",
+                            n.getId(),
+                            result.getErrorMessage());
                 }
             }
         } catch (Exception e) {
-            hasError = true;
-            errorMessage = "Expo API 호출 실패: " + e.getMessage();
+            result.addSendFailure(e);
             log.error(
                     "Expo API 호출 중 예외 발생: notificationId={}, error={}",
                     n.getId(),
@@ -148,151 +279,126 @@ public class NotificationDispatchService {
                     e);
         }
 
-        return new ExpoSendResult(allSuccessTicketIds, hasError, errorMessage, invalidTokens);
+        return result;
     }
 
-    /** Expo API 결과 처리 */
-    private void processExpoResult(Notification n, ExpoSendResult expoResult) {
+    /** 티켓 에러 코드 (상세 정보가 없으면 Unknown) */
+    static String ticketError(TicketResponse.Ticket ticket) {
+        TicketResponse.Ticket.Details details = ticket.getDetails();
+        TicketResponse.Ticket.Error errEnum = (details != null) ? details.getError() : null;
+        return (errEnum != null) ? errEnum.name() : "Unknown";
+    }
+
+    /** 점유 연장 (이 노드가 아직 점유 중인 ID만 반환) */
+    private Set<Long> extendClaims(List<Long> ids) {
+        LocalDateTime claimExpiresAt = LocalDateTime.now(clock).plusSeconds(claimSeconds);
+        return new HashSet<>(
+                notificationRepository.extendClaims(ids, nodeIdentity.getId(), claimExpiresAt));
+    }
+
+    /** Expo API 결과 처리 (전송 성공으로 반영된 알림 반환) */
+    private List<Notification> processExpoResult(
+            NotificationGroup group, ExpoSendResult expoResult) {
         // 무효 토큰 정리
         if (!expoResult.getInvalidTokens().isEmpty()) {
-            pushTokenRepository.deactivateAllByTokenIn(
-                    expoResult.getInvalidTokens(), "DeviceNotRegistered");
+            pushTokenService.deactivateTokens(expoResult.getInvalidTokens(), "DeviceNotRegistered");
             log.info("무효 토큰 비활성화 {}개 처리", expoResult.getInvalidTokens().size());
         }
 
-        // 알림 상태 업데이트
-        if (!expoResult.getSuccessTicketIds().isEmpty() && !expoResult.hasError()) {
-            n.markSent(appendIds(n.getProviderMessageId(), expoResult.getSuccessTicketIds()));
-            log.info(
-                    "알림 전송 성공: notificationId={}, tickets={}, status={}",
-                    n.getId(),
-                    expoResult.getSuccessTicketIds(),
-                    n.getStatus());
-
-            // 복약 알림인 경우 MedicationRecord 업데이트
-            updateMedicationRecordAlarmTime(n);
-        } else {
-            n.markProviderError(
-                    expoResult.hasError() ? expoResult.getErrorMessage() : "Expo 전송 실패");
-            log.error(
-                    "알림 전송 실패: notificationId={}, error={}, status={}",
-                    n.getId(),
-                    expoResult.getErrorMessage(),
-                    n.getStatus());
-        }
-    }
-
-    private static <T> List<List<T>> chunks(List<T> list, int size) {
-        List<List<T>> result = new ArrayList<>();
-        for (int i = 0; i < list.size(); i += size) {
-            result.add(list.subList(i, Math.min(i + size, list.size())));
+        // 묶인 알림 모두에 같은 결과 반영 (요약 푸시의 티켓은 각 알림에 공유)
+        List<Notification> sent = new ArrayList<>(group.getMembers().size());
+        for (Notification n : group.getMembers()) {
+            if (updateStatus(n, expoResult)) {
+                sent.add(n);
+            }
         }
-        return result;
-    }
-
-    private static String appendIds(String current, List<String> add) {
-        String joined = String.join(",", add);
-        if (current == null || current.isBlank()) return joined;
-        return current + "," + joined;
+        return sent;
     }
 
-    /** 복약 알림인 경우 MedicationRecord의 알림 시간 업데이트 */
-    private void updateMedicationRecordAlarmTime(Notification notification) {
-        try {
-            Map<String, Object> data = notification.getData();
-            if (data == null || !"medication".equals(data.get("type"))) {
-                return; // 복약 알림이 아님
+    /**
+     * 알림 하나의 상태 업데이트 (이 노드의 점유가 유지된 경우에만 반영)
+     *
+     * @return 전송 성공(SENT)으로 반영되었는지 여부
+     */
+    private boolean updateStatus(Notification n, ExpoSendResult expoResult) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        String owner = nodeIdentity.getId();
+
+        if (!expoResult.getSuccessTickets().isEmpty() && !expoResult.hasError()) {
+            if (notificationRepository.markSent(n.getId(), owner, now) == 0) {
+                logLostClaim(n);
+                return false;
             }
-
-            String medicationName = (String) data.get("medicationName");
-            String doseTimeStr = (String) data.get("doseTime");
-            String scheduledAtStr = (String) data.get("scheduledAt");
-
-            if (medicationName == null || doseTimeStr == null || scheduledAtStr == null) {
-                log.warn("복약 알림 데이터가 불완전합니다: notificationId={}", notification.getId());
-                return;
+            saveTickets(n, expoResult.getSuccessTickets());
+            log.info(
+                    "알림 전송 성공: notificationId={}, tickets={}",
+                    n.getId(),
+                    expoResult.getSuccessTicketIds());
+            return true;
+        } else if (canRetry(n, expoResult)) {
+            LocalDateTime nextAttemptAt = now.plus(retryDelay(n.getAttemptCount() + 1));
+            if (notificationRepository.scheduleRetry(
+                            n.getId(), owner, expoResult.getErrorMessage(), nextAttemptAt, now)
+                    == 0) {
+                logLostClaim(n);
+                return false;
             }
-
-            LocalDateTime scheduledAt = LocalDateTime.parse(scheduledAtStr);
-            LocalTime actualDoseTime = LocalTime.parse(doseTimeStr);
-            LocalDateTime now = LocalDateTime.now();
-
-            // 실제 복용 시간으로 조회
-            List<MedicationRecord> records =
-                    medicationRecordRepository.findByMedicationUserAndRecordDateAndDoseTime(
-                            notification.getUser().getId(),
-                            scheduledAt.toLocalDate(),
-                            actualDoseTime);
-
-            for (MedicationRecord record : records) {
-                LocalDateTime expectedDoseTime =
-                        record.getRecordDate().atTime(record.getDoseTime());
-
-                // 사전 알림인지 정시 알림인지 구분
-                boolean isPreNotification = scheduledAt.isBefore(expectedDoseTime);
-
-                if (isPreNotification) {
-                    // 사전 알림 → firstAlarmAt
-                    if (record.getFirstAlarmAt() == null) {
-                        record.markFirstAlarmSent(now);
-                        log.info(
-                                "사전 알림 시간 기록: recordId={}, time={}, scheduledAt={}, expectedTime={}",
-                                record.getId(),
-                                now,
-                                scheduledAt,
-                                expectedDoseTime);
-                    }
-                } else {
-                    // 정시 알림 → secondAlarmAt
-                    if (record.getSecondAlarmAt() == null) {
-                        record.markSecondAlarmSent(now);
-                        log.info(
-                                "정시 알림 시간 기록: recordId={}, time={}, scheduledAt={}, expectedTime={}",
-                                record.getId(),
-                                now,
-                                scheduledAt,
-                                expectedDoseTime);
-                    }
-                }
+            eventPublisher.publishEvent(new NotificationScheduledEvent(Set.of(nextAttemptAt)));
+            log.warn(
+                    "알림 전송 재시도 예약: notificationId={}, attempt={}, nextAttemptAt={}, error={}",
+                    n.getId(),
+                    n.getAttemptCount() + 1,
+                    nextAttemptAt,
+                    expoResult.getErrorMessage());
+        } else {
+            String errorCode =
+                    expoResult.hasError() ? expoResult.getErrorMessage() : "Expo 전송 실패";
+            if (notificationRepository.markProviderError(n.getId(), owner, errorCode, now) == 0) {
+                logLostClaim(n);
+                return false;
             }
-
-        } catch (Exception e) {
-            log.error("MedicationRecord 알림 시간 업데이트 실패: notificationId={}", notification.getId(), e);
+            log.error("알림 전송 실패: notificationId={}, error={}", n.getId(), errorCode);
         }
+        return false;
     }
 
-    /** Expo API 호출 결과를 담는 내부 클래스 */
-    private static class ExpoSendResult {
-        private final List<String> successTicketIds;
-        private final boolean hasError;
-        private final String errorMessage;
-        private final List<String> invalidTokens;
-
-        public ExpoSendResult(
-                List<String> successTicketIds,
-                boolean hasError,
-                String errorMessage,
-                List<String> invalidTokens) {
-            this.successTicketIds = successTicketIds;
-            this.hasError = hasError;
-            this.errorMessage = errorMessage;
-            this.invalidTokens = invalidTokens;
-        }
+    /** 전송 중 점유가 만료되어 다른 노드가 가져간 알림 (결과는 현재 점유 노드가 반영) */
+    private void logLostClaim(Notification n) {
+        log.warn("점유를 잃어 전송 결과 반영 생략: notificationId={}, node={}", n.getId(), nodeIdentity.getId());
+    }
 
-        public List<String> getSuccessTicketIds() {
-            return successTicketIds;
-        }
+    /** 일시적 오류로만 실패했고 일부도 전송되지 않았으며 재시도 횟수가 남아 있는지 확인 */
+    private boolean canRetry(Notification n, ExpoSendResult expoResult) {
+        return expoResult.isRetryable()
+                && expoResult.getSuccessTickets().isEmpty()
+                && n.getAttemptCount() + 1 < retryMaxAttempts;
+    }
 
-        public boolean hasError() {
-            return hasError;
-        }
+    /** 지수 백오프 + 지터 (지연의 절반은 고정, 나머지 절반은 무작위) */
+    private Duration retryDelay(int attempt) {
+        long exponential = retryBaseDelaySeconds * (1L << Math.min(attempt - 1, 20));
+        long capped = Math.min(exponential, retryMaxDelaySeconds);
+        long half = Math.max(1, capped / 2);
+        return Duration.ofSeconds(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
 
-        public String getErrorMessage() {
-            return errorMessage;
+    private static <T> List<List<T>> chunks(List<T> list, int size) {
+        List<List<T>> result = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += size) {
+            result.add(list.subList(i, Math.min(i + size, list.size())));
         }
+        return result;
+    }
 
-        public List<String> getInvalidTokens() {
-            return invalidTokens;
-        }
+    /** 성공한 티켓을 토큰과 함께 저장 (리시트 확인은 티켓 단위로 처리) */
+    private void saveTickets(Notification n, List<ExpoSendResult.SentTicket> sentTickets) {
+        Notification reference = notificationRepository.getReferenceById(n.getId());
+        notificationTicketRepository.saveAll(
+                sentTickets.stream()
+                        .map(
+                                ticket ->
+                                        NotificationTicket.create(
+                                                reference, ticket.getTicketId(), ticket.getToken()))
+                        .toList());
     }
 }
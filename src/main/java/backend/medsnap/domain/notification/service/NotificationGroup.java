@@ -0,0 +1,102 @@
+package backend.medsnap.domain.notification.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import backend.medsnap.domain.notification.entity.Notification;
+import backend.medsnap.domain.notification.entity.NotificationKind;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 번의 푸시로 전송할 알림 묶음
+ *
+ * <p>알림이 하나면 그 알림의 제목/본문/data를 그대로 사용하고, 여럿이면 {@link NotificationCoalescer}가 만든 요약 메시지를 사용한다.
+ * 전송 결과(상태, 티켓)는 묶음의 모든 알림에 똑같이 반영된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationGroup {
+
+    private static final String DIGEST_TYPE = "medication_digest";
+
+    private final List<Notification> members;
+    private final String title;
+    private final String body;
+    private final Map<String, Object> data;
+
+    static NotificationGroup single(Notification n) {
+        return new NotificationGroup(List.of(n), n.getTitle(), n.getBody(), n.getData());
+    }
+
+    /** 알림 목록으로 묶음 생성 (둘 이상이면 약 이름과 개수를 담은 요약 메시지) */
+    static NotificationGroup of(List<Notification> members) {
+        if (members.size() == 1) {
+            return single(members.get(0));
+        }
+
+        Notification leader = members.get(0);
+        List<String> medicationNames =
+                members.stream()
+                        .map(n -> (n.getData() != null) ? n.getData().get("medicationName") : null)
+                        .filter(Objects::nonNull)
+                        .map(Object::toString)
+                        .distinct()
+                        .toList();
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", DIGEST_TYPE);
+        data.put("kind", leader.getKind().name());
+        data.put("count", members.size());
+        data.put("medicationNames", medicationNames);
+        if (leader.getData() != null && leader.getData().get("scheduledAt") != null) {
+            data.put("scheduledAt", leader.getData().get("scheduledAt"));
+        }
+
+        return new NotificationGroup(
+                List.copyOf(members),
+                leader.getTitle(),
+                digestBody(leader.getKind(), medicationNames, members.size()),
+                data);
+    }
+
+    /** 점유가 유지된 알림만 남긴 묶음 (모두 남았으면 그대로, 하나도 없으면 null) */
+    NotificationGroup retain(Collection<Long> ownedIds) {
+        List<Notification> owned =
+                members.stream().filter(n -> ownedIds.contains(n.getId())).toList();
+        if (owned.size() == members.size()) {
+            return this;
+        }
+        return owned.isEmpty() ? null : of(owned);
+    }
+
+    /** 대표 알림 (로그 및 배치 전송 결과 매핑 기준) */
+    public Notification getLeader() {
+        return members.get(0);
+    }
+
+    public boolean isDigest() {
+        return members.size() > 1;
+    }
+
+    public Long getUserId() {
+        return getLeader().getUser().getId();
+    }
+
+    public List<Long> getMemberIds() {
+        return members.stream().map(Notification::getId).toList();
+    }
+
+    private static String digestBody(NotificationKind kind, List<String> names, int count) {
+        String subject =
+                names.isEmpty()
+                        ? String.format("약 %d개", count)
+                        : String.format("%s 등 %d개 약", names.get(0), count);
+        return (kind == NotificationKind.PRE)
+                ? String.format("%s의 복용 시간이 곧 다가옵니다.", subject)
+                : String.format("%s의 복용 시간입니다.", subject);
+    }
+}
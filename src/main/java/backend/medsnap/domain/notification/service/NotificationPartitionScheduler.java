@@ -0,0 +1,99 @@
+package backend.medsnap.domain.notification.service;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * notifications 월별 파티션 유지 작업
+ *
+ * <p>앞으로 쓰일 월 파티션을 미리 만들어 두고, 보관 기간이 지난 파티션은 gzip CSV로 내보낸 뒤 분리/삭제한다. 발송 대기 알림 조회는 부분
+ * 인덱스만 타므로 테이블이 오래되어도 비용이 늘지 않으며, 보관 기간이 지난 행은 파티션 단위로 한 번에 빠진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPartitionScheduler {
+
+    private final NotificationPartitionService partitionService;
+    private final Clock clock;
+
+    @Value("${notification.partition.enabled:false}")
+    private boolean enabled;
+
+    // 현재 월 이후 미리 만들어 둘 파티션 개수
+    @Value("${notification.partition.premake-months:3}")
+    private int premakeMonths;
+
+    // 현재 월을 포함해 유지할 개월 수 (이전 월의 파티션은 보관 후 삭제)
+    @Value("${notification.partition.retention-months:6}")
+    private int retentionMonths;
+
+    @Value("${notification.partition.archive-dir:./notification-archive}")
+    private String archiveDir;
+
+    @Value("${notification.partition.drop-after-archive:true}")
+    private boolean dropAfterArchive;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        maintain();
+    }
+
+    /** 매일 새벽 파티션 생성 및 보관 */
+    @Scheduled(cron = "${notification.partition.cron:0 30 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (!partitionService.isPartitioned()) {
+                log.warn("notifications가 파티션 테이블이 아니므로 파티션 관리를 건너뜀");
+                return;
+            }
+
+            YearMonth current = YearMonth.now(clock);
+            createUpcomingPartitions(current);
+            archiveExpiredPartitions(current.minusMonths(Math.max(1, retentionMonths) - 1L));
+
+        } catch (Exception e) {
+            log.error("알림 파티션 관리 중 예외 발생", e);
+        }
+    }
+
+    private void createUpcomingPartitions(YearMonth current) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                partitionService.ensurePartition(month);
+            } catch (Exception e) {
+                // default 파티션에 해당 월 데이터가 있으면 생성 실패 → 수동 정리 필요
+                log.error("알림 파티션 생성 실패: month={}", month, e);
+            }
+        }
+    }
+
+    private void archiveExpiredPartitions(YearMonth oldestKept) {
+        Path dir = Path.of(archiveDir);
+        for (String partition : partitionService.findMonthlyPartitions()) {
+            if (!partitionService.monthOf(partition).isBefore(oldestKept)) {
+                continue;
+            }
+            try {
+                partitionService.archivePartition(partition, dir, dropAfterArchive);
+            } catch (Exception e) {
+                log.error("알림 파티션 보관 실패: partition={}", partition, e);
+            }
+        }
+    }
+}
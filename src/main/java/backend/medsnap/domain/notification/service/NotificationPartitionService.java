@@ -0,0 +1,230 @@
+package backend.medsnap.domain.notification.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * notifications 월별 파티션 관리 (scheduled_at 기준 RANGE 파티션)
+ *
+ * <p>파티션 이름은 notifications_pYYYYMM 형식이며, 이 형식의 이름만 DDL에 사용한다. 테이블이 아직 파티션 테이블로 전환되지
+ * 않았다면(db/notifications_partitioning.sql 미실행) 아무 작업도 하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPartitionService {
+
+    private static final String PARENT_TABLE = "notifications";
+    private static final String PARTITION_PREFIX = "notifications_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile("^notifications_p\\d{6}$");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 여러 노드가 같은 파티션을 동시에 보관 처리하지 않도록 잡는 advisory lock 키
+    private static final long ARCHIVE_LOCK_KEY = 0x4E4F544950415254L;
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final String IS_PARTITIONED_SQL =
+            """
+        SELECT EXISTS (
+            SELECT 1 FROM pg_partitioned_table
+            WHERE partrelid = to_regclass('notifications'))
+        """;
+
+    private static final String FIND_PARTITIONS_SQL =
+            """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = to_regclass('notifications')
+        ORDER BY c.relname
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** notifications가 파티션 테이블인지 확인 */
+    @Transactional(readOnly = true)
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /** 해당 월 파티션이 없으면 생성 */
+    @Transactional
+    public void ensurePartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute(
+                String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s "
+                                + "FOR VALUES FROM ('%s') TO ('%s')",
+                        partition,
+                        PARENT_TABLE,
+                        month.atDay(1).atStartOfDay(),
+                        month.plusMonths(1).atDay(1).atStartOfDay()));
+    }
+
+    /** 현재 붙어 있는 월별 파티션 이름 목록 (default 파티션 제외) */
+    @Transactional(readOnly = true)
+    public List<String> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+                .filter(name -> PARTITION_NAME.matcher(name).matches())
+                .toList();
+    }
+
+    /**
+     * 파티션을 gzip CSV로 내보낸 뒤 분리(DETACH)하고 삭제
+     *
+     * <p>내보내기와 분리/삭제를 한 트랜잭션에서 처리하므로 내보내기에 실패하면 파티션은 그대로 남는다. 내보내는 동안에는 해당 파티션만 읽으며,
+     * 부모 테이블의 배타 잠금은 커밋 직전 DETACH부터 잠깐만 잡는다. 파티션에 속한 알림의 티켓(notification_tickets)은 분리 전에
+     * 삭제한다.
+     *
+     * @return 처리했으면 true, 다른 노드가 처리 중이거나 이미 분리된 파티션이면 false
+     */
+    @Transactional
+    public boolean archivePartition(String partition, Path archiveDir, boolean drop) {
+        if (!PARTITION_NAME.matcher(partition).matches()) {
+            throw new IllegalArgumentException("잘못된 파티션 이름입니다: " + partition);
+        }
+
+        Boolean locked =
+                jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ARCHIVE_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked) || !findMonthlyPartitions().contains(partition)) {
+            return false;
+        }
+
+        Path target = archiveDir.resolve(partition + ".csv.gz");
+        long rows = export(partition, target);
+
+        // 파티션 전환 시 FK가 제거되었으므로 파티션과 함께 사라질 알림의 티켓은 직접 정리
+        int tickets =
+                jdbcTemplate.update(
+                        "DELETE FROM notification_tickets "
+                                + "WHERE notification_id IN (SELECT id FROM "
+                                + partition
+                                + ")");
+
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+        if (drop) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+        }
+
+        log.info(
+                "알림 파티션 보관 완료: partition={}, rows={}, tickets={}, file={}, dropped={}",
+                partition,
+                rows,
+                tickets,
+                target,
+                drop);
+        return true;
+    }
+
+    /** 파티션의 월 (이름에서 계산) */
+    public YearMonth monthOf(String partition) {
+        return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    /** 파티션 전체를 커서로 읽어 임시 파일에 쓰고, 끝나면 대상 파일로 교체 */
+    private long export(String partition, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), partition, ".tmp");
+
+            long rows;
+            try (Writer writer =
+                    new BufferedWriter(
+                            new OutputStreamWriter(
+                                    new GZIPOutputStream(Files.newOutputStream(temp)),
+                                    StandardCharsets.UTF_8))) {
+                rows = writeCsv(partition, writer);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 파티션 내보내기 실패: " + partition, e);
+        }
+    }
+
+    private long writeCsv(String partition, Writer writer) {
+        long[] rows = {0};
+        jdbcTemplate.query(
+                connection -> {
+                    // 트랜잭션 안에서 fetch size를 주면 PostgreSQL 드라이버가 커서로 나누어 읽음
+                    PreparedStatement ps =
+                            connection.prepareStatement(
+                                    "SELECT * FROM " + partition + " ORDER BY id");
+                    ps.setFetchSize(EXPORT_FETCH_SIZE);
+                    return ps;
+                },
+                (ResultSet rs) -> {
+                    try {
+                        if (rows[0] == 0) {
+                            writeHeader(rs.getMetaData(), writer);
+                        }
+                        writeRow(rs, writer);
+                        rows[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return rows[0];
+    }
+
+    private static void writeHeader(ResultSetMetaData meta, Writer writer)
+            throws SQLException, IOException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            writer.write(meta.getColumnName(i));
+        }
+        writer.write('\n');
+    }
+
+    private static void writeRow(ResultSet rs, Writer writer) throws SQLException, IOException {
+        int columns = rs.getMetaData().getColumnCount();
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            String value = rs.getString(i);
+            if (value != null) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write('\n');
+    }
+}
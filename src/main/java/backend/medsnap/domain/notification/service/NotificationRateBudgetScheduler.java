@@ -0,0 +1,72 @@
+package backend.medsnap.domain.notification.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import backend.medsnap.domain.notification.util.RateLimiter;
+import backend.medsnap.global.cluster.NodeIdentity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/** 주기적으로 heartbeat를 보내고 재계산된 몫을 이 노드의 RateLimiter에 반영 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRateBudgetScheduler {
+
+    private final NotificationRateBudgetService notificationRateBudgetService;
+    private final RateLimiter rateLimiter;
+    private final NodeIdentity nodeIdentity;
+
+    @Value("${notification.rate-limit.cluster.enabled:false}")
+    private boolean enabled;
+
+    private long lastHeartbeatNanos;
+
+    /** 첫 heartbeat 전까지 전체 한도가 아닌 최소 몫으로 전송 */
+    @PostConstruct
+    void init() {
+        if (enabled) {
+            rateLimiter.updateLimit(notificationRateBudgetService.initialShare());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.rate-limit.cluster.heartbeat-ms:2000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long requested = rateLimiter.takeRequestedPermits();
+        double elapsedSeconds =
+                (lastHeartbeatNanos == 0) ? 0 : (now - lastHeartbeatNanos) / 1_000_000_000.0;
+        lastHeartbeatNanos = now;
+        double demand = (elapsedSeconds > 0) ? requested / elapsedSeconds : 0;
+
+        try {
+            double share = notificationRateBudgetService.rebalance(nodeIdentity.getId(), demand);
+            rateLimiter.updateLimit(share);
+        } catch (Exception e) {
+            // DB 장애 시에는 마지막으로 받은 몫을 유지
+            log.error("전송 속도 몫 갱신 실패: node={}", nodeIdentity.getId(), e);
+        }
+    }
+
+    @PreDestroy
+    void release() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            notificationRateBudgetService.release(nodeIdentity.getId());
+        } catch (Exception e) {
+            log.warn("전송 속도 몫 반납 실패: node={}", nodeIdentity.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package backend.medsnap.domain.notification.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import backend.medsnap.domain.notification.entity.NotificationRateLease;
+import backend.medsnap.domain.notification.repository.NotificationRateLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 전체 Expo 전송 한도(초당 600건)를 노드별 몫으로 나눔
+ *
+ * <p>각 노드는 heartbeat마다 최근 요청량을 기록하고, 살아 있는 노드들의 요청량에 비례해 몫을 받는다. 유휴 노드는 최소 몫(idle-floor)만
+ * 유지하므로 바쁜 노드가 나머지를 가져가며, heartbeat가 끊긴 노드의 몫은 lease 만료 후 회수된다.
+ *
+ * <p>비례 몫은 다른 노드가 마지막으로 보고한 요청량으로 계산되므로, 몫을 늘릴 때는 전체 한도에서 다른 노드들이 기록한(적용 중인) 몫을 뺀 만큼으로
+ * 제한한다. 재계산은 advisory lock으로 직렬화하므로 요청량이 heartbeat 사이에 바뀌어도 적용 중인 몫의 합은 전체 한도를 넘지 않는다. 줄어든
+ * 몫은 각 노드의 다음 heartbeat에서 다른 노드가 가져간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRateBudgetService {
+
+    private static final long REBALANCE_LOCK_KEY = 0x4D53_5241_5445L; // "MSRATE"
+
+    // 다른 노드가 한도를 모두 쓰고 있을 때의 최소 몫 (RateLimiter는 0보다 큰 속도만 허용)
+    private static final double MIN_SHARE = 0.01;
+
+    private final NotificationRateLeaseRepository notificationRateLeaseRepository;
+    private final Clock clock;
+
+    @Value("${notification.rate-limit.permits-per-second:600}")
+    private double globalLimit;
+
+    @Value("${notification.rate-limit.cluster.idle-floor:10}")
+    private double idleFloor;
+
+    @Value("${notification.rate-limit.cluster.lease-seconds:10}")
+    private long leaseSeconds;
+
+    /**
+     * heartbeat를 기록하고 이 노드의 몫을 다시 계산
+     *
+     * @param demand 직전 구간에 이 노드가 요청한 초당 토큰 수
+     * @return 이 노드가 사용할 초당 토큰 수
+     */
+    @Transactional
+    public double rebalance(String nodeId, double demand) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime since = now.minusSeconds(leaseSeconds);
+
+        notificationRateLeaseRepository.lockRebalance(REBALANCE_LOCK_KEY);
+        notificationRateLeaseRepository.heartbeat(nodeId, demand, now);
+        notificationRateLeaseRepository.deleteExpired(since);
+
+        List<NotificationRateLease> leases = notificationRateLeaseRepository.findActiveSince(since);
+
+        double myWeight = weight(demand);
+        double totalWeight = 0;
+        double othersShare = 0;
+        for (NotificationRateLease lease : leases) {
+            if (nodeId.equals(lease.getNodeId())) {
+                totalWeight += myWeight;
+                continue;
+            }
+            totalWeight += weight(lease.getDemand());
+            // 몫을 아직 받지 못한 노드는 최소 몫(idle-floor)으로 시작하므로 그만큼 남겨 둠
+            othersShare += (lease.getShare() != null) ? lease.getShare() : idleFloor;
+        }
+
+        double proportional =
+                (totalWeight > 0) ? globalLimit * myWeight / totalWeight : globalLimit;
+        double share = Math.max(MIN_SHARE, Math.min(proportional, globalLimit - othersShare));
+        notificationRateLeaseRepository.updateShare(nodeId, share);
+
+        log.debug(
+                "전송 속도 몫 재계산: 노드 {}, 활성 노드 {}개, 요청 {}/초, 비례 몫 {}/초, 적용 몫 {}/초",
+                nodeId,
+                leases.size(),
+                demand,
+                proportional,
+                share);
+        return share;
+    }
+
+    /** 첫 heartbeat 전에 사용할 몫 (다른 노드의 몫을 침범하지 않도록 최소 몫으로 시작) */
+    public double initialShare() {
+        return Math.min(idleFloor, globalLimit);
+    }
+
+    /** 종료 시 몫 반납 (다른 노드가 다음 heartbeat에서 나눠 가짐) */
+    @Transactional
+    public void release(String nodeId) {
+        notificationRateLeaseRepository.deleteByNodeId(nodeId);
+    }
+
+    private double weight(double demand) {
+        return Math.max(demand, idleFloor);
+    }
+}
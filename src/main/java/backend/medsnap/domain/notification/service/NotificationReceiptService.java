@@ -0,0 +1,100 @@
+package backend.medsnap.domain.notification.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import backend.medsnap.domain.notification.repository.NotificationRepository;
+import backend.medsnap.domain.notification.repository.NotificationTicketRepository;
+import backend.medsnap.domain.pushToken.service.PushTokenService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/** 리시트 확인 결과를 청크 단위 트랜잭션으로 일괄 반영 */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationReceiptService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationTicketRepository notificationTicketRepository;
+    private final PushTokenService pushTokenService;
+    private final Clock clock;
+
+    /**
+     * 티켓별 리시트 결과 반영
+     *
+     * <p>배달 확인된 티켓과 그 알림은 DELIVERED로, 실패한 티켓은 에러 코드와 함께 FAILED로 바꾸고, DeviceNotRegistered가 나온 티켓의 토큰만
+     * 비활성화한다. 리시트가 아직 없는 티켓은 확인 시각만 남긴다.
+     *
+     * @return DELIVERED로 바뀐 알림 수
+     */
+    @Transactional
+    public int applyReceipts(ReceiptChunk chunk) {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        if (!chunk.getDeliveredTicketIds().isEmpty()) {
+            notificationTicketRepository.markDelivered(chunk.getDeliveredTicketIds(), now);
+        }
+        for (Map.Entry<String, List<Long>> entry : chunk.getFailedTicketIds().entrySet()) {
+            notificationTicketRepository.markFailed(entry.getValue(), entry.getKey(), now);
+        }
+        if (!chunk.getUncheckedTicketIds().isEmpty()) {
+            notificationTicketRepository.markChecked(chunk.getUncheckedTicketIds(), now);
+        }
+
+        int delivered = 0;
+        if (!chunk.getDeliveredNotificationIds().isEmpty()) {
+            delivered =
+                    notificationRepository.markDeliveredByIdIn(
+                            chunk.getDeliveredNotificationIds(), now);
+        }
+
+        if (!chunk.getInvalidTokens().isEmpty()) {
+            pushTokenService.deactivateTokens(chunk.getInvalidTokens(), "DeviceNotRegistered");
+            log.info("무효 토큰 비활성화: {}개", chunk.getInvalidTokens().size());
+        }
+        return delivered;
+    }
+
+    /** Expo가 리시트를 보관하는 기간(24시간)이 지나도록 결과가 없는 티켓 만료 처리 */
+    @Transactional
+    public int expireStaleTickets(LocalDateTime before) {
+        return notificationTicketRepository.expirePending(before, LocalDateTime.now(clock));
+    }
+
+    /** 리시트 청크 하나의 티켓별 결과 */
+    @Getter
+    public static class ReceiptChunk {
+        private final List<Long> deliveredTicketIds = new ArrayList<>();
+        private final Map<String, List<Long>> failedTicketIds = new HashMap<>();
+        private final List<Long> uncheckedTicketIds = new ArrayList<>();
+        private final Set<Long> deliveredNotificationIds = new HashSet<>();
+        private final Set<String> invalidTokens = new HashSet<>();
+
+        void delivered(Long ticketId, Long notificationId) {
+            deliveredTicketIds.add(ticketId);
+            deliveredNotificationIds.add(notificationId);
+        }
+
+        void failed(Long ticketId, String error, String token) {
+            failedTicketIds.computeIfAbsent(error, ignored -> new ArrayList<>()).add(ticketId);
+            if ("DeviceNotRegistered".equals(error)) {
+                invalidTokens.add(token);
+            }
+        }
+
+        void unchecked(Long ticketId) {
+            uncheckedTicketIds.add(ticketId);
+        }
+    }
+}
@@ -1,170 +1,158 @@
 package backend.medsnap.domain.notification.service;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import backend.medsnap.domain.notification.client.ExpoReceiptClient;
-import backend.medsnap.domain.notification.entity.Notification;
-import backend.medsnap.domain.notification.repository.NotificationRepository;
-import backend.medsnap.domain.pushToken.repository.PushTokenRepository;
+import backend.medsnap.domain.notification.repository.NotificationTicketRepository;
+import backend.medsnap.domain.notification.repository.PendingTicketView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-/** 푸시 리시트 확인을 위한 워커 15분마다 실행되어 SENT 상태의 알림들의 실제 배달 상태를 확인 */
+/**
+ * 푸시 리시트 확인을 위한 워커 15분마다 실행되어 전송 티켓의 실제 배달 상태를 확인
+ *
+ * <p>결과가 없는(PENDING) 티켓 중 전송 후 15분이 지난 것만 키셋 페이지로 읽고, 티켓이 1000개(Expo 제한) 모일 때마다 리시트를 조회해 청크
+ * 단위 트랜잭션으로 반영한다. 결과는 티켓마다 기록되므로 이미 확인된 티켓은 다시 조회하지 않는다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationReceiptWorker {
 
-    private final NotificationRepository notificationRepository;
-    private final PushTokenRepository pushTokenRepository;
+    private static final int RECEIPT_CHUNK_SIZE = 1000;
+
+    private final NotificationTicketRepository notificationTicketRepository;
+    private final NotificationReceiptService notificationReceiptService;
     private final ExpoReceiptClient expoReceiptClient;
+    private final Clock clock;
+
+    @Value("${scheduler.notification.receipt.page-size:500}")
+    private int pageSize;
+
+    // Expo가 리시트를 준비하는 데 걸리는 시간 (이보다 최근 티켓은 다음 실행에서 확인)
+    @Value("${scheduler.notification.receipt.min-age-minutes:15}")
+    private long minAgeMinutes;
 
     /** 15분마다 푸시 리시트 확인 */
-    @Transactional
     @Scheduled(fixedDelay = 900000) // 15분 = 900,000ms
     public void checkPushReceipts() {
         log.info("--- [푸시 리시트 확인 시작] ---");
 
         try {
-            // SENT 상태인 알림들 조회 (최근 24시간 이내, updatedAt 기준)
-            LocalDateTime since = LocalDateTime.now().minusHours(24);
-            List<Notification> sentNotifications =
-                    notificationRepository.findRecentSentWithTickets(since);
-
-            if (sentNotifications.isEmpty()) {
-                log.info("확인할 푸시 리시트가 없습니다.");
-                return;
+            // Expo는 리시트를 24시간만 보관하므로 그보다 오래된 티켓은 만료 처리
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDateTime since = now.minusHours(24);
+            LocalDateTime until = now.minusMinutes(minAgeMinutes);
+
+            int expired = notificationReceiptService.expireStaleTickets(since);
+            if (expired > 0) {
+                log.info("리시트 확인 기간이 지난 티켓 {}개 만료 처리", expired);
             }
 
-            log.info("푸시 리시트 확인 대상: {}개 알림", sentNotifications.size());
+            // 티켓 ID → 티켓 인덱스 (Expo 티켓 ID는 유일하지 않을 수 있으므로 목록으로 보관, 청크 처리 후 비움)
+            Map<String, List<PendingTicketView>> index = new LinkedHashMap<>();
+            ReceiptStats stats = new ReceiptStats();
+            LocalDateTime afterCreatedAt = since;
+            long afterId = 0L;
+
+            while (true) {
+                List<PendingTicketView> page =
+                        notificationTicketRepository.findPendingPage(
+                                afterCreatedAt, afterId, until, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
 
-            // 티켓 ID 추출
-            List<String> ticketIds = extractTicketIds(sentNotifications);
+                for (PendingTicketView ticket : page) {
+                    index.computeIfAbsent(ticket.getTicketId(), ignored -> new ArrayList<>())
+                            .add(ticket);
 
-            if (ticketIds.isEmpty()) {
-                log.info("유효한 티켓 ID가 없습니다.");
-                return;
+                    if (index.size() >= RECEIPT_CHUNK_SIZE) {
+                        processReceiptChunk(index, stats);
+                        index.clear();
+                    }
+                }
+
+                PendingTicketView last = page.get(page.size() - 1);
+                afterCreatedAt = last.getCreatedAt();
+                afterId = last.getId();
             }
 
-            // 1000개씩 청크로 나누어 처리 (Expo API 제한)
-            List<List<String>> chunks = chunks(ticketIds, 1000);
+            if (!index.isEmpty()) {
+                processReceiptChunk(index, stats);
+            }
 
-            for (List<String> chunk : chunks) {
-                processReceiptChunk(chunk, sentNotifications);
+            if (stats.tickets == 0) {
+                log.info("확인할 푸시 리시트가 없습니다.");
+                return;
             }
 
-            log.info("--- [푸시 리시트 확인 완료] ---");
+            log.info(
+                    "--- [푸시 리시트 확인 완료] 티켓 {}개, 배달 확인 알림 {}개 ---", stats.tickets, stats.delivered);
 
         } catch (Exception e) {
             log.error("푸시 리시트 확인 중 예외 발생", e);
         }
     }
 
-    /** 리시트 청크 처리 */
-    @Transactional
-    protected void processReceiptChunk(
-            List<String> ticketIds, List<Notification> sentNotifications) {
+    /** 리시트 청크 처리 (조회 결과를 한 트랜잭션으로 반영) */
+    private void processReceiptChunk(
+            Map<String, List<PendingTicketView>> index, ReceiptStats stats) {
+        List<String> ticketIds = new ArrayList<>(index.keySet());
+        stats.tickets += ticketIds.size();
+
         try {
             // Expo API로 리시트 조회
             ExpoReceiptClient.ReceiptResponse response = expoReceiptClient.getReceipts(ticketIds);
-
-            // 각 알림의 상태 업데이트
-            for (Notification notification : sentNotifications) {
-                if (notification.getProviderMessageId() == null) {
-                    continue;
-                }
-
-                String[] ticketIdArray = notification.getProviderMessageId().split(",");
-                boolean hasAnySuccess = false;
-                boolean hasDeviceNotRegistered = false;
-
-                for (String ticketId : ticketIdArray) {
-                    ticketId = ticketId.trim();
-                    ExpoReceiptClient.ReceiptResponse.Receipt receipt =
-                            response.getData().get(ticketId);
-
-                    if (receipt != null) {
-                        if ("ok".equals(receipt.getStatus())) {
-                            hasAnySuccess = true;
-                            log.debug(
-                                    "푸시 배달 성공: notificationId={}, ticketId={}",
-                                    notification.getId(),
-                                    ticketId);
-                        } else if ("error".equals(receipt.getStatus())) {
-                            String error =
-                                    receipt.getDetails() != null
-                                            ? receipt.getDetails().getError()
-                                            : "Unknown";
-                            log.warn(
-                                    "푸시 배달 실패: notificationId={}, ticketId={}, error={}",
-                                    notification.getId(),
-                                    ticketId,
-                                    error);
-
-                            // DeviceNotRegistered 에러인 경우 플래그 설정
-                            if ("DeviceNotRegistered".equals(error)) {
-                                hasDeviceNotRegistered = true;
-                            }
-                        }
+            Map<String, ExpoReceiptClient.ReceiptResponse.Receipt> receipts =
+                    (response.getData() != null) ? response.getData() : Map.of();
+
+            NotificationReceiptService.ReceiptChunk chunk =
+                    new NotificationReceiptService.ReceiptChunk();
+
+            for (Map.Entry<String, List<PendingTicketView>> entry : index.entrySet()) {
+                ExpoReceiptClient.ReceiptResponse.Receipt receipt = receipts.get(entry.getKey());
+
+                for (PendingTicketView ticket : entry.getValue()) {
+                    if (receipt != null && "ok".equals(receipt.getStatus())) {
+                        chunk.delivered(ticket.getId(), ticket.getNotificationId());
+                    } else if (receipt != null && "error".equals(receipt.getStatus())) {
+                        String error =
+                                (receipt.getDetails() != null
+                                                && receipt.getDetails().getError() != null)
+                                        ? receipt.getDetails().getError()
+                                        : "Unknown";
+                        log.warn(
+                                "푸시 배달 실패: notificationId={}, ticketId={}, error={}",
+                                ticket.getNotificationId(),
+                                entry.getKey(),
+                                error);
+                        chunk.failed(ticket.getId(), error, ticket.getToken());
                     } else {
-                        // 리시트가 없는 경우 (아직 처리 중이거나 만료)
-                        log.debug(
-                                "리시트 없음: notificationId={}, ticketId={}",
-                                notification.getId(),
-                                ticketId);
+                        // 리시트가 없는 경우 (아직 처리 중) - 다음 실행에서 다시 확인
+                        chunk.unchecked(ticket.getId());
                     }
                 }
-
-                // 하나라도 성공하면 DELIVERED 상태로 업데이트
-                if (hasAnySuccess) {
-                    notification.markDelivered();
-                    log.info("알림 배달 완료: notificationId={}", notification.getId());
-                }
-
-                // DeviceNotRegistered가 있으면 토큰 비활성화 (한 번만)
-                if (hasDeviceNotRegistered) {
-                    pushTokenRepository.deactivateAllByUserId(
-                            notification.getUser().getId(), "DeviceNotRegistered");
-                    log.info("무효 토큰 비활성화: userId={}", notification.getUser().getId());
-                }
             }
 
+            stats.delivered += notificationReceiptService.applyReceipts(chunk);
+
         } catch (Exception e) {
             log.error("리시트 청크 처리 중 예외 발생: chunkSize={}", ticketIds.size(), e);
         }
     }
 
-    /** 알림 목록에서 티켓 ID 추출 */
-    private List<String> extractTicketIds(List<Notification> notifications) {
-        List<String> ticketIds = new ArrayList<>();
-
-        for (Notification notification : notifications) {
-            if (notification.getProviderMessageId() != null) {
-                String[] ticketIdArray = notification.getProviderMessageId().split(",");
-                for (String ticketId : ticketIdArray) {
-                    String trimmed = ticketId.trim();
-                    if (!trimmed.isEmpty()) {
-                        ticketIds.add(trimmed);
-                    }
-                }
-            }
-        }
-
-        return ticketIds;
-    }
-
-    /** 리스트를 지정된 크기의 청크로 분할 */
-    private static <T> List<List<T>> chunks(List<T> list, int size) {
-        List<List<T>> result = new ArrayList<>();
-        for (int i = 0; i < list.size(); i += size) {
-            result.add(list.subList(i, Math.min(i + size, list.size())));
-        }
-        return result;
+    private static class ReceiptStats {
+        private long tickets;
+        private long delivered;
     }
 }
@@ -1,14 +1,31 @@
 package backend.medsnap.domain.notification.service;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import backend.medsnap.domain.notification.dto.request.NotificationCreateCommand;
 import backend.medsnap.domain.notification.dto.request.NotificationCreateRequest;
 import backend.medsnap.domain.notification.entity.Notification;
+import backend.medsnap.domain.notification.event.NotificationScheduledEvent;
 import backend.medsnap.domain.notification.repository.NotificationRepository;
+import backend.medsnap.domain.notification.util.NotificationDedupeKey;
 import backend.medsnap.domain.user.entity.User;
 import backend.medsnap.domain.user.exception.UserNotFoundException;
 import backend.medsnap.domain.user.repository.UserRepository;
@@ -20,8 +37,46 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int BULK_INSERT_CHUNK_SIZE = 500;
+
+    // 중복(같은 scheduled_at, 같은 (user_id, title, body) 해시)은 ux_notifications_dedupe_key 제약으로 건너뜀
+    private static final String BULK_INSERT_SQL =
+            """
+        INSERT INTO notifications
+            (user_id, title, body, data, scheduled_at, dedupe_key, medication_record_id, kind,
+             status, created_at, updated_at)
+        VALUES
+            (:userId, :title, :body, CAST(:data AS jsonb), :scheduledAt, :dedupeKey,
+             :medicationRecordId, :kind, 'SCHEDULED', :now, :now)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String DROP_LEGACY_DEDUPE_SQL =
+            "ALTER TABLE notifications DROP CONSTRAINT IF EXISTS ux_notifications_dedupe";
+
+    private static final String DEDUPE_KEY_NOT_NULL_SQL =
+            "ALTER TABLE notifications ALTER COLUMN dedupe_key SET NOT NULL";
+
+    private static final String DEDUPE_MIGRATION_COMPLETED_SQL =
+            """
+        SELECT EXISTS (
+                SELECT 1 FROM information_schema.columns
+                WHERE table_schema = current_schema()
+                AND table_name = 'notifications'
+                AND column_name = 'dedupe_key'
+                AND is_nullable = 'NO')
+            AND NOT EXISTS (
+                SELECT 1 FROM pg_constraint
+                WHERE conrelid = to_regclass('notifications')
+                AND conname = 'ux_notifications_dedupe')
+        """;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     @Transactional
     public Long createNotification(Long userId, NotificationCreateRequest request) {
@@ -42,7 +97,9 @@ public class NotificationService {
                         scheduledAt);
 
         try {
-            return notificationRepository.save(notification).getId();
+            Long id = notificationRepository.save(notification).getId();
+            publishScheduled(Collections.singleton(scheduledAt));
+            return id;
         } catch (DataIntegrityViolationException e) {
             log.warn(
                     "중복 알림으로 저장 생략: userId={}, scheduledAt={}, title={}, body={}",
@@ -53,4 +110,144 @@ public class NotificationService {
             return null; // 중복으로 인한 생성 실패
         }
     }
+
+    /**
+     * 알림 일괄 생성 (배치 INSERT)
+     *
+     * <p>사용자 조회와 중복 확인 쿼리 없이 저장하며, 이미 존재하는 알림은 DB 제약으로 건너뛴다.
+     *
+     * @return 실제로 생성된 알림 수
+     */
+    @Transactional
+    public int createNotifications(Collection<NotificationCreateCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<SqlParameterSource> batch = new ArrayList<>(BULK_INSERT_CHUNK_SIZE);
+        Set<LocalDateTime> scheduledAts = new HashSet<>();
+        int created = 0;
+
+        for (NotificationCreateCommand command : commands) {
+            batch.add(toParams(command, now));
+            scheduledAts.add(command.getScheduledAt());
+            if (batch.size() == BULK_INSERT_CHUNK_SIZE) {
+                created += executeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            created += executeBatch(batch);
+        }
+
+        log.debug("알림 일괄 생성: 요청 {}건, 생성 {}건", commands.size(), created);
+        if (created > 0) {
+            publishScheduled(scheduledAts);
+        }
+        return created;
+    }
+
+    /**
+     * 약 변경(수정/삭제/알람 삭제) 후 더 이상 유효하지 않은 대기 알림 취소
+     *
+     * <p>호출한 트랜잭션 안에서 실행되므로 약/알람 변경과 함께 커밋된다. 복약 기록을 정리하기 전에 호출해야 기록과 연결된 알림을 찾을 수 있다.
+     */
+    @Transactional
+    public int cancelStaleMedicationNotifications(Long medicationId) {
+        int canceled =
+                notificationRepository.cancelStaleByMedicationId(
+                        medicationId, LocalDateTime.now(clock));
+        if (canceled > 0) {
+            log.info("약 ID: {} - 유효하지 않은 대기 알림 {}개 취소", medicationId, canceled);
+        }
+        return canceled;
+    }
+
+    /** 사용자 탈퇴 시 대기 중인 알림 모두 취소 */
+    @Transactional
+    public int cancelPendingNotificationsForUser(Long userId) {
+        int canceled =
+                notificationRepository.cancelPendingByUserId(userId, LocalDateTime.now(clock));
+        if (canceled > 0) {
+            log.info("사용자 ID: {} - 대기 알림 {}개 취소", userId, canceled);
+        }
+        return canceled;
+    }
+
+    /**
+     * [중복 키 백필] afterId 이후 중복 키가 없는 알림을 limit개까지 채움
+     *
+     * @return 이번에 처리한 마지막 알림 ID (남은 알림이 없으면 null)
+     */
+    @Transactional
+    public Long fillDedupeKeys(long afterId, int limit) {
+        List<Long> ids = notificationRepository.findIdsWithoutDedupeKey(afterId, limit);
+        if (ids.isEmpty()) {
+            return null;
+        }
+        notificationRepository.fillDedupeKeys(ids);
+        return ids.get(ids.size() - 1);
+    }
+
+    /** [중복 키 백필] 이미 전환이 끝났는지 확인 (dedupe_key가 NOT NULL이고 기존 4컬럼 유니크 제약이 없음) */
+    @Transactional(readOnly = true)
+    public boolean isDedupeKeyMigrationCompleted() {
+        Boolean completed =
+                jdbcTemplate
+                        .getJdbcOperations()
+                        .queryForObject(DEDUPE_MIGRATION_COMPLETED_SQL, Boolean.class);
+        return Boolean.TRUE.equals(completed);
+    }
+
+    /** [중복 키 백필] 모든 알림에 키가 채워진 뒤 기존 4컬럼 유니크 제약 제거 및 NOT NULL 전환 */
+    @Transactional
+    public void completeDedupeKeyMigration() {
+        jdbcTemplate.getJdbcOperations().execute(DROP_LEGACY_DEDUPE_SQL);
+        jdbcTemplate.getJdbcOperations().execute(DEDUPE_KEY_NOT_NULL_SQL);
+    }
+
+    /** 웨이크업 스케줄러에 새 발송 예정 시각 알림 (커밋 후 반영) */
+    private void publishScheduled(Set<LocalDateTime> scheduledAts) {
+        eventPublisher.publishEvent(new NotificationScheduledEvent(scheduledAts));
+    }
+
+    private int executeBatch(List<SqlParameterSource> batch) {
+        int[] results =
+                jdbcTemplate.batchUpdate(BULK_INSERT_SQL, batch.toArray(new SqlParameterSource[0]));
+        int created = 0;
+        for (int result : results) {
+            if (result > 0) {
+                created += result;
+            }
+        }
+        return created;
+    }
+
+    private SqlParameterSource toParams(NotificationCreateCommand command, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("userId", command.getUserId())
+                .addValue("title", command.getTitle())
+                .addValue("body", command.getBody())
+                .addValue("data", toJson(command))
+                .addValue("scheduledAt", command.getScheduledAt())
+                .addValue(
+                        "dedupeKey",
+                        NotificationDedupeKey.of(
+                                command.getUserId(), command.getTitle(), command.getBody()))
+                .addValue("medicationRecordId", command.getMedicationRecordId())
+                .addValue("kind", command.getKind() != null ? command.getKind().name() : null)
+                .addValue("now", now);
+    }
+
+    private String toJson(NotificationCreateCommand command) {
+        if (command.getData() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(command.getData());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 data 직렬화 실패: userId=" + command.getUserId(), e);
+        }
+    }
 }
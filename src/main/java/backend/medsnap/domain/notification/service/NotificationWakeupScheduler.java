@@ -0,0 +1,157 @@
+package backend.medsnap.domain.notification.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import backend.medsnap.domain.notification.event.NotificationScheduledEvent;
+import backend.medsnap.domain.notification.repository.NotificationRepository;
+import backend.medsnap.domain.notification.util.TimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발송 예정 시각에 맞춰 알림 전송을 깨우는 스케줄러 (5초 폴링 대체)
+ *
+ * <p>앞으로 horizon 동안의 발송 예정 시각을 타이밍 휠에 담아 두고, 시각이 되면 즉시 {@link NotificationWorker#dispatchDue()}를
+ * 호출한다. DB는 refill 주기마다 새로 horizon에 들어온 구간만 조회하며, 새로 생성된 알림은 커밋 후 이벤트로 바로 등록된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationWakeupScheduler {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationWorker notificationWorker;
+    private final Clock clock;
+
+    @Value("${scheduler.notification.wakeup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scheduler.notification.wakeup.tick-ms:100}")
+    private long tickMillis;
+
+    @Value("${scheduler.notification.wakeup.wheel-size:600}")
+    private int wheelSize;
+
+    @Value("${scheduler.notification.wakeup.horizon-seconds:300}")
+    private long horizonSeconds;
+
+    @Value("${scheduler.notification.wakeup.refill-ms:60000}")
+    private long refillMillis;
+
+    private TimingWheel wheel;
+    private ScheduledExecutorService executor;
+
+    // 휠에 적재가 끝난 구간의 끝 (이후 시각은 다음 refill에서 조회)
+    private volatile LocalDateTime loadedUntil;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        wheel = new TimingWheel(tickMillis, wheelSize, clock.millis());
+        executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "notification-wakeup");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        executor.scheduleWithFixedDelay(this::refill, 0, refillMillis, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+
+        log.info(
+                "알림 웨이크업 스케줄러 시작: tick={}ms, horizon={}초, refill={}ms",
+                tickMillis,
+                horizonSeconds,
+                refillMillis);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** 새로 예약된 알림 중 이미 적재된 구간에 속하는 시각을 휠에 등록 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationScheduled(NotificationScheduledEvent event) {
+        if (wheel == null) {
+            return;
+        }
+
+        LocalDateTime until = loadedUntil;
+        for (LocalDateTime scheduledAt : event.getScheduledAts()) {
+            if (scheduledAt == null) {
+                wheel.schedule(clock.millis());
+            } else if (until != null && !scheduledAt.isAfter(until)) {
+                wheel.schedule(toMillis(scheduledAt));
+            }
+        }
+    }
+
+    /** 시각이 지난 항목이 있으면 전송 실행 */
+    private void tick() {
+        try {
+            if (wheel.advance(clock.millis()) > 0) {
+                notificationWorker.dispatchDue();
+            }
+        } catch (Exception e) {
+            log.error("알림 웨이크업 처리 중 예외 발생", e);
+        }
+    }
+
+    /** horizon에 새로 들어온 구간의 발송 예정 시각 적재 및 밀린 알림 확인 */
+    private void refill() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDateTime from = (loadedUntil != null) ? loadedUntil : now;
+            LocalDateTime to = now.plusSeconds(horizonSeconds);
+
+            // 조회 중 커밋되는 알림은 이벤트로 등록되도록 구간 끝을 먼저 갱신 (중복 시각은 휠에서 무시)
+            loadedUntil = to;
+
+            // 점유 회수나 전송 실패로 발송 시각이 지난 채 남아 있는 알림은 바로 깨움
+            if (notificationRepository.existsDueScheduled(now)) {
+                wheel.schedule(clock.millis());
+            }
+
+            List<LocalDateTime> scheduledAts = new ArrayList<>();
+            scheduledAts.addAll(notificationRepository.findDistinctScheduledAtBetween(from, to));
+            scheduledAts.addAll(notificationRepository.findDistinctNextAttemptAtBetween(from, to));
+            for (LocalDateTime scheduledAt : scheduledAts) {
+                wheel.schedule(toMillis(scheduledAt));
+            }
+
+            log.debug(
+                    "알림 웨이크업 refill: {} ~ {}, 시각 {}개 적재, 휠 크기 {}",
+                    from,
+                    to,
+                    scheduledAts.size(),
+                    wheel.size());
+        } catch (Exception e) {
+            log.error("알림 웨이크업 refill 중 예외 발생", e);
+        }
+    }
+
+    private long toMillis(LocalDateTime serverTime) {
+        return serverTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
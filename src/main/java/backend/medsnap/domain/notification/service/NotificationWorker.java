@@ -1,5 +1,19 @@
 package backend.medsnap.domain.notification.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -7,31 +21,187 @@ import backend.medsnap.domain.notification.entity.Notification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 발송 시각이 된 알림을 배치로 조회하여 전송
+ *
+ * <p>묶음 전송을 켜면 같은 사용자의 동시 복약 알림을 요약 푸시 하나로 보낸다 ({@link NotificationCoalescer}).
+ *
+ * <p>배치 전송 모드에서는 여러 알림의 메시지를 Expo 요청 하나(최대 100건)로 묶어 보낸다.
+ *
+ * <p>동시 전송 모드에서는 배치의 알림을 제한된 크기의 스레드 풀에서 병렬로 처리한다. 알림별 트랜잭션(REQUIRES_NEW)과 공용 RateLimiter는
+ * 그대로 적용되며, 각 스레드가 전송 동안 DB 커넥션을 점유하므로 동시성은 커넥션 풀 크기보다 작게 설정한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationWorker {
 
     private final NotificationDispatchService dispatchService;
+    private final NotificationBatchDispatcher batchDispatcher;
+    private final NotificationCoalescer coalescer;
+
+    @Value("${scheduler.notification.dispatch.batch-size:200}")
+    private int batchSize;
+
+    // 한 번의 실행에서 처리할 최대 배치 수 (배치가 가득 차 있으면 다음 주기를 기다리지 않고 이어서 조회)
+    @Value("${scheduler.notification.dispatch.max-batches-per-tick:1}")
+    private int maxBatchesPerTick;
+
+    // 여러 알림의 메시지를 Expo 요청 하나로 묶어 전송 (동시 전송 모드보다 우선)
+    @Value("${scheduler.notification.dispatch.batching.enabled:false}")
+    private boolean batchingEnabled;
+
+    // 웨이크업 스케줄러가 발송 시각에 맞춰 호출하므로 주기 폴링은 생략
+    @Value("${scheduler.notification.wakeup.enabled:false}")
+    private boolean wakeupEnabled;
+
+    @Value("${scheduler.notification.dispatch.concurrent.enabled:false}")
+    private boolean concurrentEnabled;
+
+    @Value("${scheduler.notification.dispatch.concurrent.concurrency:4}")
+    private int concurrency;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void initExecutor() {
+        if (!concurrentEnabled || batchingEnabled) {
+            return;
+        }
 
-    @Scheduled(fixedDelay = 5000)
+        AtomicInteger threadNo = new AtomicInteger();
+        int threads = Math.max(1, concurrency);
+        // 큐가 가득 차면 스케줄러 스레드가 직접 처리하여 자연스럽게 속도를 맞춤
+        executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(Math.max(1, batchSize)),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "notification-dispatch-" + threadNo.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        log.info("알림 동시 전송 모드 활성화: 동시성={}, 배치 크기={}", threads, batchSize);
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.notification.dispatch.delay-ms:5000}")
+    public void pollDue() {
+        if (wakeupEnabled) {
+            return;
+        }
+        dispatchDue();
+    }
+
+    /** 발송 시각이 된 알림을 배치 단위로 점유하여 전송 (배치가 가득 차 있으면 이어서 조회) */
     public void dispatchDue() {
-        // 배치 조회
-        var batch = dispatchService.fetchBatch(200);
+        int batches = 0;
+        int processed = 0;
+
+        while (batches < Math.max(1, maxBatchesPerTick)) {
+            // 배치 조회
+            List<Notification> batch = dispatchService.fetchBatch(batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
 
-        if (!batch.isEmpty()) {
             log.info("처리할 알림 {}개 조회", batch.size());
+            batches++;
+            processed += batch.size();
+
+            if (batchingEnabled) {
+                batchDispatcher.dispatch(batch);
+            } else if (executor != null) {
+                dispatchConcurrently(batch);
+            } else {
+                dispatchSequentially(batch);
+            }
+
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (batches > 1) {
+            log.info("알림 전송 주기 종료: 배치 {}개, 알림 {}개 처리", batches, processed);
         }
+    }
+
+    private void dispatchSequentially(List<Notification> batch) {
+        Map<Long, List<String>> tokensByUser = dispatchService.findActiveTokens(batch);
+        List<Notification> sent = new ArrayList<>(batch.size());
+
+        // 각 묶음(알림 하나 또는 같은 사용자의 동시 알림)을 개별 트랜잭션으로 처리
+        for (NotificationGroup group : coalescer.group(batch)) {
+            sent.addAll(processSafely(group, tokensByUser));
+        }
+        recordAlarmsSafely(sent);
+    }
 
-        // 각 알림을 개별 트랜잭션으로 처리
-        for (Notification n : batch) {
+    /** 배치를 스레드 풀에 나누어 처리하고, 다음 배치 조회 전에 모두 끝날 때까지 대기 */
+    private void dispatchConcurrently(List<Notification> batch) {
+        Map<Long, List<String>> tokensByUser = dispatchService.findActiveTokens(batch);
+        List<NotificationGroup> groups = coalescer.group(batch);
+
+        List<Future<List<Notification>>> futures = new ArrayList<>(groups.size());
+        for (NotificationGroup group : groups) {
+            futures.add(executor.submit(() -> processSafely(group, tokensByUser)));
+        }
+
+        List<Notification> sent = new ArrayList<>(batch.size());
+        for (int i = 0; i < futures.size(); i++) {
             try {
-                dispatchService.processOne(n); // 프록시 경유 → @Transactional 유효
-            } catch (Exception e) {
-                log.error(
-                        "알림 처리 중 예외 발생: notificationId={}, error={}", n.getId(), e.getMessage(), e);
-                // 개별 알림 실패가 다른 알림에 영향을 주지 않도록 계속 진행
+                sent.addAll(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("알림 동시 전송 대기 중 인터럽트 발생");
+                break;
+            } catch (ExecutionException e) {
+                log.error("알림 동시 전송 작업 실패", e.getCause());
             }
         }
+        recordAlarmsSafely(sent);
+    }
+
+    /** 묶음 하나를 전송하고 전송 성공으로 반영된 알림 반환 (예외 시 빈 목록) */
+    private List<Notification> processSafely(
+            NotificationGroup group, Map<Long, List<String>> tokensByUser) {
+        try {
+            List<String> tokens = tokensByUser.getOrDefault(group.getUserId(), List.of());
+            return dispatchService.processOne(group, tokens); // 프록시 경유 → @Transactional 유효
+        } catch (Exception e) {
+            log.error(
+                    "알림 처리 중 예외 발생: notificationId={}, error={}",
+                    group.getLeader().getId(),
+                    e.getMessage(),
+                    e);
+            // 개별 알림 실패가 다른 알림에 영향을 주지 않도록 계속 진행
+            return List.of();
+        }
+    }
+
+    /** 배치에서 전송에 성공한 복약 알림의 기록 시각을 한 번에 반영 */
+    private void recordAlarmsSafely(List<Notification> sent) {
+        if (sent.isEmpty()) {
+            return;
+        }
+        try {
+            dispatchService.recordAlarmsSent(sent);
+        } catch (Exception e) {
+            log.error("복약 기록 알림 시간 업데이트 실패: 알림 {}개", sent.size(), e);
+        }
     }
 }
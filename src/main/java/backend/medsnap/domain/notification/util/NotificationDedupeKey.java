@@ -0,0 +1,31 @@
+package backend.medsnap.domain.notification.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 알림 중복 판별 키 (사용자, 제목, 본문의 64비트 해시)
+ *
+ * <p>MD5("user_id␟title␟body")의 앞 8바이트를 부호 있는 long으로 읽는다. schema.sql의 notification_dedupe_key 함수와
+ * 같은 값을 내야 하며, (scheduled_at, dedupe_key) 유니크 제약으로 기존 (user_id, scheduled_at, title, body) 중복 규칙을 대신한다.
+ */
+public final class NotificationDedupeKey {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private NotificationDedupeKey() {}
+
+    public static long of(Long userId, String title, String body) {
+        String source = userId + String.valueOf(SEPARATOR) + title + SEPARATOR + body;
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("MD5")
+                            .digest(source.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5를 사용할 수 없습니다.", e);
+        }
+    }
+}
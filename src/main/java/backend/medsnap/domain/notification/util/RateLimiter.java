@@ -1,76 +1,341 @@
 package backend.medsnap.domain.notification.util;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
 
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
-/** Token Bucket 알고리즘을 사용한 Rate Limiter Expo Push Service의 600개/초 제한을 준수 */
+/**
+ * 연속 리필 Token Bucket 기반 Rate Limiter (Expo Push Service의 600개/초 제한 준수)
+ *
+ * <p>토큰은 경과 시간에 비례해 소수 단위로 채워지므로 1초 경계에서 몰리는 버스트가 없다. 토큰이 부족한 요청은 FIFO 대기열에 들어가며, 대기자가 있는
+ * 동안에는 새 요청이 앞지르지 않는다. Expo가 429(MessageRateExceeded)를 반환하면 {@link #onThrottled()}로 속도를 절반으로 줄이고, 이후
+ * 제한 없이 지나는 동안 설정 속도까지 조금씩 회복한다.
+ */
 @Slf4j
 @Component
 public class RateLimiter {
 
-    private static final int MAX_TOKENS = 600; // 초당 최대 토큰 수
-    private static final long REFILL_INTERVAL_MS = 1000; // 1초마다 리필
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 429 이후 최소 속도 (설정 속도 대비 비율)와 회복 단위
+    private static final double MIN_RATE_RATIO = 0.1;
+    private static final double RECOVERY_STEP_RATIO = 0.1;
+    private static final long RECOVERY_INTERVAL_NANOS = NANOS_PER_SECOND;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final ScheduledExecutorService timer;
+
+    // 설정 속도(초당 토큰)와 버스트 허용량 (버스트는 설정 속도를 넘지 않음)
+    private final double burst;
+    private double limitPerSecond;
+    private double capacity;
+
+    // 현재 적용 중인 속도 (429 발생 시 줄었다가 회복)
+    private double ratePerSecond;
+    private double tokens;
+    private long lastRefillNanos;
+    private long nextRecoveryNanos;
+
+    // 마지막 조회 이후 요청된 토큰 수 (클러스터 몫 산정용, 획득 성공 여부와 무관하게 요청 시점에 집계)
+    private long requestedPermits;
+    private ScheduledFuture<?> pendingWakeup;
+
+    public RateLimiter(
+            @Value("${notification.rate-limit.permits-per-second:600}") double permitsPerSecond,
+            @Value("${notification.rate-limit.burst:600}") double burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다, burst는 1 이상이어야 합니다.");
+        }
+        this.burst = burst;
+        this.limitPerSecond = permitsPerSecond;
+        this.ratePerSecond = permitsPerSecond;
+        this.capacity = capacityFor(permitsPerSecond);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.timer =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "rate-limiter");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
 
-    private final AtomicInteger tokens = new AtomicInteger(MAX_TOKENS);
-    private final AtomicLong lastRefillTime = new AtomicLong(System.currentTimeMillis());
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+    }
 
-    /** 토큰을 획득하려고 시도 */
+    /** 토큰을 즉시 획득하려고 시도 (대기자가 있으면 순서를 지키기 위해 실패) */
     public boolean tryAcquire(int requestedTokens) {
         if (requestedTokens <= 0) {
             return true;
         }
 
-        refillTokens();
-
-        while (true) {
-            int currentTokens = tokens.get();
-            if (currentTokens < requestedTokens) {
-                log.debug("토큰 부족: 요청={}, 현재 토큰={}", requestedTokens, currentTokens);
-                return false;
-            }
-
-            int newTokens = currentTokens - requestedTokens;
-            if (tokens.compareAndSet(currentTokens, newTokens)) {
-                log.debug("토큰 획득 성공: 요청={}, 남은 토큰={}", requestedTokens, newTokens);
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            // 실패한 요청도 수요로 집계 (acquireAsync와 같은 기준)
+            requestedPermits += requestedTokens;
+            if (waiters.isEmpty() && canTake(requestedTokens)) {
+                tokens -= requestedTokens;
+                log.debug("토큰 획득 성공: 요청={}, 남은 토큰={}", requestedTokens, tokens);
                 return true;
             }
-            // CAS 실패 시 재시도
+            log.debug("토큰 부족: 요청={}, 현재 토큰={}", requestedTokens, tokens);
+            return false;
+        } finally {
+            lock.unlock();
         }
     }
 
-    /** 토큰을 획득할 때까지 대기 */
+    /**
+     * 제한 시간 안에 토큰을 획득하려고 시도 (FIFO 순서로 대기)
+     *
+     * @return 제한 시간 안에 획득하면 true
+     */
+    public boolean tryAcquire(int requestedTokens, Duration timeout) {
+        CompletableFuture<Void> future = acquireAsync(requestedTokens);
+        try {
+            future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return !future.cancel(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return !future.cancel(false);
+        } catch (ExecutionException | CancellationException e) {
+            return false;
+        }
+    }
+
+    /** 토큰을 획득할 때까지 대기 (FIFO 순서) */
     public void acquire(int requestedTokens) {
-        while (!tryAcquire(requestedTokens)) {
-            try {
-                Thread.sleep(10); // 10ms 대기 후 재시도
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        CompletableFuture<Void> future = acquireAsync(requestedTokens);
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (future.cancel(false)) {
                 throw new RuntimeException("Rate limiter interrupted", e);
             }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rate limiter failed", e.getCause());
+        }
+    }
+
+    /**
+     * 스레드를 막지 않는 토큰 획득 (토큰이 확보되면 완료되는 future 반환)
+     *
+     * <p>완료 전에 future를 취소하면 대기열에서 빠지며 토큰은 차감되지 않는다.
+     */
+    public CompletableFuture<Void> acquireAsync(int requestedTokens) {
+        if (requestedTokens <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Waiter waiter;
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            // 대기열에 들어가는 요청도 수요로 집계
+            requestedPermits += requestedTokens;
+            if (waiters.isEmpty() && canTake(requestedTokens)) {
+                tokens -= requestedTokens;
+                return CompletableFuture.completedFuture(null);
+            }
+
+            waiter = new Waiter(requestedTokens);
+            waiters.addLast(waiter);
+            scheduleWakeup();
+        } finally {
+            lock.unlock();
+        }
+
+        // 대기 중 취소되면 뒤의 대기자가 막히지 않도록 바로 대기열 정리
+        waiter.future.whenComplete(
+                (ignored, error) -> {
+                    if (error != null) {
+                        timer.execute(this::drain);
+                    }
+                });
+        return waiter.future;
+    }
+
+    /** Expo가 속도 제한(429, MessageRateExceeded)을 반환했을 때 속도를 절반으로 줄임 */
+    public void onThrottled() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            double reduced = Math.max(limitPerSecond * MIN_RATE_RATIO, ratePerSecond / 2);
+            if (reduced < ratePerSecond) {
+                log.warn("Expo 속도 제한 감지: 초당 {} → {}로 감속", ratePerSecond, reduced);
+                ratePerSecond = reduced;
+            }
+            // 남은 버스트도 비워 즉시 몰아서 보내지 않도록 함
+            tokens = Math.min(tokens, 0);
+            nextRecoveryNanos = now + RECOVERY_INTERVAL_NANOS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 설정 속도 변경 (현재 속도가 새 설정보다 크면 함께 낮춤) */
+    public void updateLimit(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다.");
+        }
+
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            this.limitPerSecond = permitsPerSecond;
+            this.capacity = capacityFor(permitsPerSecond);
+            this.tokens = Math.min(tokens, capacity);
+            // 감속 중이면 새 설정 속도를 상한으로 회복을 이어감
+            this.ratePerSecond =
+                    (nextRecoveryNanos == 0)
+                            ? permitsPerSecond
+                            : Math.min(ratePerSecond, permitsPerSecond);
+            // 이전 속도로 계산된 대기 시각은 버리고 새 속도로 다시 예약
+            if (pendingWakeup != null) {
+                pendingWakeup.cancel(false);
+                pendingWakeup = null;
+            }
+            scheduleWakeup();
+        } finally {
+            lock.unlock();
         }
     }
 
     /** 현재 사용 가능한 토큰 수 */
     public int getAvailableTokens() {
-        refillTokens();
-        return tokens.get();
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            return (int) Math.max(0, Math.floor(tokens));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 마지막 호출 이후 요청된 토큰 수를 반환하고 초기화 */
+    public long takeRequestedPermits() {
+        lock.lock();
+        try {
+            long requested = requestedPermits;
+            requestedPermits = 0;
+            return requested;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 현재 적용 중인 초당 속도 */
+    public double getCurrentRate() {
+        lock.lock();
+        try {
+            return ratePerSecond;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 경과 시간만큼 토큰을 채우고 감속 상태면 조금씩 회복 (lock 보유 상태에서 호출) */
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * ratePerSecond / NANOS_PER_SECOND);
+            lastRefillNanos = now;
+        }
+
+        if (nextRecoveryNanos != 0 && now - nextRecoveryNanos >= 0) {
+            ratePerSecond =
+                    Math.min(limitPerSecond, ratePerSecond + limitPerSecond * RECOVERY_STEP_RATIO);
+            nextRecoveryNanos =
+                    (ratePerSecond < limitPerSecond) ? now + RECOVERY_INTERVAL_NANOS : 0;
+        }
     }
 
-    /** 토큰 리필 로직 */
-    private void refillTokens() {
-        long now = System.currentTimeMillis();
-        long lastRefill = lastRefillTime.get();
+    /** 대기열 앞에서부터 토큰이 허용하는 만큼 완료 처리 */
+    private void drain() {
+        lock.lock();
+        try {
+            pendingWakeup = null;
+            refill(System.nanoTime());
 
-        if (now - lastRefill >= REFILL_INTERVAL_MS) {
-            if (lastRefillTime.compareAndSet(lastRefill, now)) {
-                // 1초마다 MAX_TOKENS로 리셋
-                tokens.set(MAX_TOKENS);
-                log.debug("토큰 리필: MAX_TOKENS={}", MAX_TOKENS);
+            while (!waiters.isEmpty()) {
+                Waiter head = waiters.peekFirst();
+                if (head.future.isDone()) {
+                    // 취소된 대기자
+                    waiters.pollFirst();
+                    continue;
+                }
+                if (!canTake(head.permits)) {
+                    break;
+                }
+
+                tokens -= head.permits;
+                waiters.pollFirst();
+                if (!head.future.complete(null)) {
+                    // 완료 직전에 취소되었으면 토큰 반환
+                    tokens += head.permits;
+                }
             }
+            scheduleWakeup();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 대기열 맨 앞 요청이 충족될 시점에 깨어나도록 예약 (lock 보유 상태에서 호출) */
+    private void scheduleWakeup() {
+        if (waiters.isEmpty() || pendingWakeup != null) {
+            return;
+        }
+
+        double missing = Math.max(0, Math.min(waiters.peekFirst().permits, capacity) - tokens);
+        long delayNanos = (long) Math.ceil(missing * NANOS_PER_SECOND / ratePerSecond);
+        pendingWakeup = timer.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 요청을 처리할 수 있는지 확인 (lock 보유 상태에서 호출)
+     *
+     * <p>버스트 허용량보다 큰 요청은 버킷이 가득 찼을 때 허용하고 부족분은 이후 리필에서 갚는다.
+     */
+    private boolean canTake(int requestedTokens) {
+        return tokens >= Math.min(requestedTokens, capacity);
+    }
+
+    private double capacityFor(double permitsPerSecond) {
+        return Math.max(1, Math.min(burst, permitsPerSecond));
+    }
+
+    private static class Waiter {
+        private final int permits;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Waiter(int permits) {
+            this.permits = permits;
         }
     }
 }
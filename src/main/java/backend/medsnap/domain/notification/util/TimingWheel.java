@@ -0,0 +1,91 @@
+package backend.medsnap.domain.notification.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 발송 예정 시각(epoch millis)을 담는 해시 타이밍 휠
+ *
+ * <p>시각은 tick 단위 슬롯에 나누어 담고, {@link #advance(long)}는 지난 tick의 슬롯만 확인한다. 같은 시각은 한 번만 저장하므로 같은 분에
+ * 예약된 알림이 많아도 항목 수는 시각 수만큼만 늘어난다. 휠 한 바퀴보다 먼 시각은 같은 슬롯에 남아 있다가 해당 바퀴에서 만료된다.
+ */
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final List<Long>[] slots;
+    private final Set<Long> deadlines = new HashSet<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis와 wheelSize는 0보다 커야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 시각 등록 (이미 지난 시각은 다음 advance에서 바로 만료)
+     *
+     * @return 새로 등록되었으면 true, 이미 등록된 시각이면 false
+     */
+    public synchronized boolean schedule(long deadlineMillis) {
+        if (!deadlines.add(deadlineMillis)) {
+            return false;
+        }
+        long tick = Math.max(deadlineMillis / tickMillis, currentTick);
+        slots[slotOf(tick)].add(deadlineMillis);
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행하고 만료된 시각을 제거
+     *
+     * @return 만료된 시각 수
+     */
+    public synchronized int advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick < currentTick) {
+            return 0;
+        }
+
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+        long ticks = Math.min(targetTick - currentTick + 1, slots.length);
+        int expired = 0;
+        for (long i = 0; i < ticks; i++) {
+            expired += expireSlot(slots[slotOf(targetTick - i)], nowMillis);
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private int expireSlot(List<Long> slot, long nowMillis) {
+        int expired = 0;
+        Iterator<Long> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            long deadline = iterator.next();
+            if (deadline <= nowMillis) {
+                iterator.remove();
+                deadlines.remove(deadline);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.length);
+    }
+}
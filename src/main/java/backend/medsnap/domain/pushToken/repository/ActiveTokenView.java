@@ -0,0 +1,9 @@
+package backend.medsnap.domain.pushToken.repository;
+
+/** 워커용 활성 토큰 조회 결과 (사용자 ID, 토큰 문자열) */
+public interface ActiveTokenView {
+
+    Long getUserId();
+
+    String getToken();
+}
@@ -18,13 +18,18 @@ public interface PushTokenRepository extends JpaRepository<PushToken, Long> {
 
     Optional<PushToken> findByUser(User user);
 
-    /** 워커용: 활성 토큰 조회 */
+    /** 워커용: 여러 사용자의 활성 토큰을 한 번에 조회 */
     @Query(
-            "SELECT pt "
+            "SELECT pt.user.id AS userId, pt.token AS token "
                     + "FROM PushToken pt "
-                    + "WHERE pt.user.id = :userId "
-                    + "AND pt.isActive = true")
-    List<PushToken> findActiveTokensByUserId(@Param("userId") Long userId);
+                    + "WHERE pt.user.id IN :userIds "
+                    + "AND pt.isActive = true "
+                    + "ORDER BY pt.user.id, pt.id")
+    List<ActiveTokenView> findActiveTokensByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /** 토큰 캐시 무효화용: 토큰 소유 사용자 ID 조회 */
+    @Query("SELECT DISTINCT pt.user.id FROM PushToken pt WHERE pt.token IN :tokens")
+    List<Long> findUserIdsByTokenIn(@Param("tokens") Collection<String> tokens);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(
@@ -40,4 +45,12 @@ public interface PushTokenRepository extends JpaRepository<PushToken, Long> {
                     + "SET pt.isActive = false, pt.lastError = :reason "
                     + "WHERE pt.user.id = :userId")
     int deactivateAllByUserId(@Param("userId") Long userId, @Param("reason") String reason);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+            "UPDATE PushToken pt "
+                    + "SET pt.isActive = false, pt.lastError = :reason "
+                    + "WHERE pt.user.id IN :userIds")
+    int deactivateAllByUserIdIn(
+            @Param("userIds") Collection<Long> userIds, @Param("reason") String reason);
 }
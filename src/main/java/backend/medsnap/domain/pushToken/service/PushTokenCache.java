@@ -0,0 +1,122 @@
+package backend.medsnap.domain.pushToken.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import backend.medsnap.domain.pushToken.repository.ActiveTokenView;
+import backend.medsnap.domain.pushToken.repository.PushTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전송 워커용 사용자별 활성 푸시 토큰 조회 (선택적 메모리 캐시)
+ *
+ * <p>캐시를 끄면 매번 한 번의 IN 쿼리로 조회한다. 켜면 캐시에 없는 사용자만 조회하며, 토큰이 바뀌는 경로(등록/비활성화)에서 {@link
+ * #evict(Collection)}로 무효화한다. 다른 노드에서 바뀐 토큰은 TTL이 지나야 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushTokenCache {
+
+    private final PushTokenRepository pushTokenRepository;
+
+    private final Map<Long, CachedTokens> cache = new ConcurrentHashMap<>();
+
+    @Value("${push-token.cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${push-token.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${push-token.cache.max-size:100000}")
+    private int maxSize;
+
+    /** 사용자별 활성 토큰 조회 (토큰이 없는 사용자는 결과에 포함되지 않음) */
+    public Map<Long, List<String>> findActiveTokens(Collection<Long> userIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        long now = System.nanoTime();
+
+        for (Long userId : userIds) {
+            CachedTokens cached = enabled ? cache.get(userId) : null;
+            if (cached != null && now - cached.expiresAtNanos < 0) {
+                if (!cached.tokens.isEmpty()) {
+                    result.put(userId, cached.tokens);
+                }
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, List<String>> loaded = new HashMap<>();
+        for (ActiveTokenView view : pushTokenRepository.findActiveTokensByUserIdIn(misses)) {
+            loaded.computeIfAbsent(view.getUserId(), ignored -> new ArrayList<>())
+                    .add(view.getToken());
+        }
+        result.putAll(loaded);
+
+        if (enabled) {
+            if (cache.size() + misses.size() > maxSize) {
+                cache.clear();
+            }
+            long expiresAt = now + TimeUnit.SECONDS.toNanos(ttlSeconds);
+            for (Long userId : misses) {
+                // 토큰이 없는 사용자도 캐시하여 반복 조회를 막음
+                cache.put(
+                        userId,
+                        new CachedTokens(
+                                List.copyOf(loaded.getOrDefault(userId, List.of())), expiresAt));
+            }
+        }
+        return result;
+    }
+
+    /** 사용자 토큰 캐시 무효화 (트랜잭션 중이면 커밋 후에 한 번 더 무효화) */
+    public void evict(Collection<Long> userIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> targets = List.copyOf(userIds);
+        targets.forEach(cache::remove);
+
+        // 커밋 전에 다른 스레드가 이전 값을 다시 적재했을 수 있으므로 커밋 후에도 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            targets.forEach(cache::remove);
+                        }
+                    });
+        }
+        log.debug("푸시 토큰 캐시 무효화: userIds={}", targets);
+    }
+
+    private static class CachedTokens {
+        private final List<String> tokens;
+        private final long expiresAtNanos;
+
+        private CachedTokens(List<String> tokens, long expiresAtNanos) {
+            this.tokens = tokens;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package backend.medsnap.domain.pushToken.service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 
 import org.springframework.stereotype.Service;
@@ -22,6 +24,7 @@ public class PushTokenService {
 
     private final PushTokenRepository pushTokenRepository;
     private final UserRepository userRepository;
+    private final PushTokenCache pushTokenCache;
 
     @Transactional
     public PushToken upsertPushToken(Long userId, UpsertPushTokenRequest request) {
@@ -40,6 +43,8 @@ public class PushTokenService {
             throw new PushTokenException(ErrorCode.PLATFORM_INVALID);
         }
 
+        pushTokenCache.evict(List.of(userId));
+
         return pushTokenRepository
                 .findByUser(user)
                 .map(
@@ -63,4 +68,31 @@ public class PushTokenService {
                                                 .isActive(true)
                                                 .build()));
     }
+
+    /** 무효 토큰 비활성화 (전송 티켓의 DeviceNotRegistered 등) */
+    @Transactional
+    public int deactivateTokens(Collection<String> tokens, String reason) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        pushTokenCache.evict(pushTokenRepository.findUserIdsByTokenIn(tokens));
+        return pushTokenRepository.deactivateAllByTokenIn(tokens, reason);
+    }
+
+    /** 사용자의 모든 토큰 비활성화 (리시트의 DeviceNotRegistered 등) */
+    @Transactional
+    public int deactivateAllByUserId(Long userId, String reason) {
+        pushTokenCache.evict(List.of(userId));
+        return pushTokenRepository.deactivateAllByUserId(userId, reason);
+    }
+
+    /** 여러 사용자의 모든 토큰 일괄 비활성화 (리시트 확인 청크 단위) */
+    @Transactional
+    public int deactivateAllByUserIds(Collection<Long> userIds, String reason) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        pushTokenCache.evict(userIds);
+        return pushTokenRepository.deactivateAllByUserIdIn(userIds, reason);
+    }
 }
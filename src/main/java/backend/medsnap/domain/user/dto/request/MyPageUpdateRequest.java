@@ -21,7 +21,8 @@ import lombok.NoArgsConstructor;
       "name": "홍길동",
       "birthday": "2025-03-20",
       "phone": "010-1234-5678",
-      "isPushConsent": true
+      "isPushConsent": true,
+      "timeZone": "Asia/Seoul"
     }
     """)
 public class MyPageUpdateRequest {
@@ -44,4 +45,7 @@ public class MyPageUpdateRequest {
     @NotNull(message = "앱 알림 동의 여부는 필수입니다.")
     @Schema(description = "앱 알림 동의 여부", example = "true")
     private Boolean isPushConsent;
+
+    @Schema(description = "시간대 (IANA ID, 생략 시 기존 값 유지)", example = "Asia/Seoul")
+    private String timeZone;
 }
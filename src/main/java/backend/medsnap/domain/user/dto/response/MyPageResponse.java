@@ -16,9 +16,15 @@ public class MyPageResponse {
     private String phone;
     // private String caregiverPhone;
     private Boolean isPushConsent;
+    private String timeZone;
 
     public static MyPageResponse from(User u) {
         return new MyPageResponse(
-                u.getId(), u.getName(), u.getBirthday(), u.getPhone(), u.getIsPushConsent());
+                u.getId(),
+                u.getName(),
+                u.getBirthday(),
+                u.getPhone(),
+                u.getIsPushConsent(),
+                u.getTimeZone());
     }
 }
@@ -18,4 +18,5 @@ public class UserInfoResponse {
     private LocalDate birthday;
     private String phone;
     private Boolean isPushConsent;
+    private String timeZone;
 }
@@ -1,11 +1,13 @@
 package backend.medsnap.domain.user.entity;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -24,6 +26,8 @@ import lombok.NoArgsConstructor;
 @Where(clause = "deleted_at IS NULL")
 public class User extends BaseEntity {
 
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -45,6 +49,11 @@ public class User extends BaseEntity {
 
     private Boolean isPushConsent;
 
+    // 복약 기록 생성/판정 기준 시간대 (IANA ID)
+    @ColumnDefault("'" + DEFAULT_TIME_ZONE + "'")
+    @Column(nullable = false, length = 64)
+    private String timeZone = DEFAULT_TIME_ZONE;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<SocialAccount> socialAccounts = new ArrayList<>();
 
@@ -70,6 +79,14 @@ public class User extends BaseEntity {
         this.isPushConsent = isPushConsent;
     }
 
+    public void updateTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    public ZoneId getZoneId() {
+        return ZoneId.of(timeZone);
+    }
+
     // Refresh Token 업데이트
     public void updateRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
@@ -1,9 +1,17 @@
 package backend.medsnap.domain.user.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import backend.medsnap.domain.user.entity.User;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {}
+public interface UserRepository extends JpaRepository<User, Long> {
+
+    /** [스케줄러용] 사용자들이 설정한 시간대 목록 (탈퇴하지 않은 사용자만) */
+    @Query("SELECT DISTINCT u.timeZone FROM User u")
+    List<String> findDistinctTimeZones();
+}
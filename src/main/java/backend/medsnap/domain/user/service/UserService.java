@@ -1,8 +1,12 @@
 package backend.medsnap.domain.user.service;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import backend.medsnap.domain.notification.service.NotificationService;
 import backend.medsnap.domain.user.dto.request.MyPageUpdateRequest;
 import backend.medsnap.domain.user.dto.response.MyPageResponse;
 import backend.medsnap.domain.user.dto.response.UserInfoResponse;
@@ -10,6 +14,8 @@ import backend.medsnap.domain.user.entity.SocialAccount;
 import backend.medsnap.domain.user.entity.User;
 import backend.medsnap.domain.user.exception.UserNotFoundException;
 import backend.medsnap.domain.user.repository.UserRepository;
+import backend.medsnap.global.exception.BusinessException;
+import backend.medsnap.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final NotificationService notificationService;
 
     @Transactional(readOnly = true)
     public UserInfoResponse getUserInfo(Long userId) {
@@ -38,6 +45,7 @@ public class UserService {
                 .birthday(user.getBirthday())
                 .phone(user.getPhone())
                 .isPushConsent(user.getIsPushConsent())
+                .timeZone(user.getTimeZone())
                 .build();
     }
 
@@ -56,6 +64,10 @@ public class UserService {
                 // null, // request.getCaregiverPhone() 대신 null
                 request.getIsPushConsent());
 
+        if (request.getTimeZone() != null) {
+            user.updateTimeZone(validateTimeZone(request.getTimeZone()));
+        }
+
         return MyPageResponse.from(user);
     }
 
@@ -72,6 +84,18 @@ public class UserService {
         // 소프트딜리트
         user.softDelete();
 
+        // 탈퇴한 사용자에게 남은 알림이 전송되지 않도록 대기 알림 취소
+        notificationService.cancelPendingNotificationsForUser(userId);
+
         log.info("유저 소프트 딜리트 완료 userId={}", userId);
     }
+
+    /** IANA 시간대 ID 검증 후 정규화된 ID 반환 */
+    private String validateTimeZone(String timeZone) {
+        try {
+            return ZoneId.of(timeZone.trim()).getId();
+        } catch (DateTimeException e) {
+            throw new BusinessException(ErrorCode.USER_INVALID_TIME_ZONE);
+        }
+    }
 }
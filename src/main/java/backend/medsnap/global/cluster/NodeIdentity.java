@@ -0,0 +1,36 @@
+package backend.medsnap.global.cluster;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/** 다중 인스턴스 환경에서 작업 점유(lease) 주체를 구분하기 위한 노드 식별자 */
+@Slf4j
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String id;
+
+    public NodeIdentity(@Value("${app.node-id:}") String configuredId) {
+        this.id =
+                (configuredId == null || configuredId.isBlank())
+                        ? resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                        : configuredId;
+        log.info("노드 식별자: {}", id);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node";
+        }
+    }
+}
@@ -10,12 +10,23 @@ import org.springframework.context.annotation.Configuration;
 
 import com.niamedtech.expo.exposerversdk.ExpoPushNotificationClient;
 
+import backend.medsnap.domain.notification.client.ExpoHttpStatusException;
+
 @Configuration
 public class ExpoConfig {
 
+    /** 429/5xx 응답은 상태 코드를 담은 예외로 바꿔 전송 측이 메시지 대신 상태로 판단하게 함 */
     @Bean
     public CloseableHttpClient expoHttpClient() {
-        return HttpClients.createDefault();
+        return HttpClients.custom()
+                .addResponseInterceptorLast(
+                        (response, entity, context) -> {
+                            int status = response.getCode();
+                            if (status == 429 || status >= 500) {
+                                throw new ExpoHttpStatusException(status);
+                            }
+                        })
+                .build();
     }
 
     @Bean
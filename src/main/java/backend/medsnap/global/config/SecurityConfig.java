@@ -139,6 +139,9 @@ public class SecurityConfig {
                                         .hasRole("ADMIN")
                                         .requestMatchers(HttpMethod.DELETE, "/api/v1/faqs/**")
                                         .hasRole("ADMIN")
+                                        // 관리자 API는 ADMIN만 가능
+                                        .requestMatchers("/api/v1/admin/**")
+                                        .hasRole("ADMIN")
                                         .anyRequest()
                                         .authenticated())
                 .csrf(csrf -> csrf.disable())
@@ -26,6 +26,7 @@ public enum ErrorCode {
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다."),
+    USER_INVALID_TIME_ZONE(HttpStatus.BAD_REQUEST, "U002", "지원하지 않는 시간대입니다."),
 
     // Medication
     MED_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "약 정보를 찾을 수 없습니다."),
@@ -47,6 +48,8 @@ public enum ErrorCode {
     NOTIFICATION_SEND_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "N002", "알림 전송에 실패했습니다."),
     NOTIFICATION_INVALID_PAYLOAD(HttpStatus.BAD_REQUEST, "N003", "유효하지 않은 알림 요청입니다."),
     NOTIFICATION_NO_ACTIVE_TOKEN(HttpStatus.BAD_REQUEST, "N004", "활성화된 푸시 토큰이 없어 알림을 보낼 수 없습니다."),
+    NOTIFICATION_SEND_RETRYABLE(
+            HttpStatus.SERVICE_UNAVAILABLE, "N005", "일시적인 오류로 알림 전송에 실패했습니다. 잠시 후 재시도합니다."),
 
     // Medication Record
     MEDICATION_RECORD_NOT_FOUND(HttpStatus.NOT_FOUND, "MR001", "복약 기록을 찾을 수 없습니다."),
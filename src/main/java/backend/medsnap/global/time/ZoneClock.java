@@ -0,0 +1,39 @@
+package backend.medsnap.global.time;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 시간대 기준의 현재 날짜/시각 계산 및 서버 기준 시각(시스템 Clock 시간대) 변환
+ *
+ * <p>scheduled_at 등 DB에 저장되는 시각은 서버 시간대의 wall-clock으로 통일하고, 날짜 경계와 복용 시각은 사용자 시간대로 해석한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ZoneClock {
+
+    private final Clock clock;
+
+    public ZoneId serverZone() {
+        return clock.getZone();
+    }
+
+    public LocalDate today(ZoneId zone) {
+        return LocalDate.now(clock.withZone(zone));
+    }
+
+    public LocalDateTime now(ZoneId zone) {
+        return LocalDateTime.now(clock.withZone(zone));
+    }
+
+    /** 사용자 시간대의 wall-clock 시각을 서버 시간대의 wall-clock 시각으로 변환 */
+    public LocalDateTime toServerTime(LocalDateTime localDateTime, ZoneId zone) {
+        return localDateTime.atZone(zone).withZoneSameInstant(clock.getZone()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,111 @@
+package backend.medsnap.global.util;
+
+/**
+ * long 원시 타입 전용 해시 집합 (open addressing, linear probing)
+ *
+ * <p>{@code Set<Long>}과 달리 요소마다 박싱 객체와 엔트리 노드를 만들지 않는다. 추가와 조회만 지원하며 스레드 안전하지 않다.
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 4;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private int mask;
+    private int assigned;
+    private int resizeAt;
+    // 0은 빈 슬롯 표시로 쓰므로 따로 보관
+    private boolean containsEmptyKey;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(capacityFor(Math.max(expectedSize, MIN_CAPACITY)));
+    }
+
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            boolean added = !containsEmptyKey;
+            containsEmptyKey = true;
+            return added;
+        }
+
+        int index = indexOf(key);
+        while (true) {
+            long existing = keys[index];
+            if (existing == EMPTY) {
+                keys[index] = key;
+                if (++assigned >= resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return true;
+            }
+            if (existing == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) {
+            return containsEmptyKey;
+        }
+
+        int index = indexOf(key);
+        while (true) {
+            long existing = keys[index];
+            if (existing == EMPTY) {
+                return false;
+            }
+            if (existing == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return assigned + (containsEmptyKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private int indexOf(long key) {
+        long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        allocate(newCapacity);
+        for (long key : oldKeys) {
+            if (key != EMPTY) {
+                int index = indexOf(key);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                assigned++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        assigned = 0;
+        // 적재율 0.5
+        resizeAt = capacity >> 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(expectedSize * 2 - 1) << 1;
+        return Math.max(capacity, MIN_CAPACITY);
+    }
+}
@@ -0,0 +1,15 @@
+package backend.medsnap.scheduler;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 복약 기록 생성 결과 (생성된 기록 수, 생성된 알림 수) */
+@Getter
+@RequiredArgsConstructor
+public class MaterializationResult {
+
+    public static final MaterializationResult EMPTY = new MaterializationResult(0, 0);
+
+    private final long records;
+    private final long notifications;
+}
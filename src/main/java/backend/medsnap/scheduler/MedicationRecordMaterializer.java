@@ -0,0 +1,301 @@
+package backend.medsnap.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import backend.medsnap.domain.alarm.entity.Alarm;
+import backend.medsnap.domain.alarm.entity.DayOfWeek;
+import backend.medsnap.domain.alarm.repository.AlarmRepository;
+import backend.medsnap.domain.medicationRecord.entity.MedicationRecord;
+import backend.medsnap.domain.medicationRecord.entity.MedicationRecordStatus;
+import backend.medsnap.domain.medicationRecord.entity.RecordMaterializationRun;
+import backend.medsnap.domain.medicationRecord.repository.MedicationRecordRepository;
+import backend.medsnap.domain.medicationRecord.repository.RecordMaterializationRunRepository;
+import backend.medsnap.domain.medicationRecord.service.MedicationNotificationPlanner;
+import backend.medsnap.domain.medicationRecord.util.RecordSlotKey;
+import backend.medsnap.domain.notification.service.NotificationService;
+import backend.medsnap.global.util.LongHashSet;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알람을 기준으로 특정 날짜의 복약 예정 기록(PENDING)과 알림을 생성
+ *
+ * <p>날짜는 사용자 시간대 기준이며, 한 번의 호출은 같은 시간대(zone) 사용자들의 알람만 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MedicationRecordMaterializer {
+
+    private final MedicationRecordRepository medicationRecordRepository;
+    private final AlarmRepository alarmRepository;
+    private final RecordMaterializationRunRepository recordMaterializationRunRepository;
+    private final NotificationService notificationService;
+    private final MedicationNotificationPlanner medicationNotificationPlanner;
+    private final Clock clock;
+
+    /** 하루치 알람을 한 번에 조회하여 단일 트랜잭션으로 기록 생성 */
+    @Transactional
+    public MaterializationResult materializeDay(ZoneId zone, LocalDate date) {
+        DayOfWeek dayOfWeek = DayOfWeek.from(date.getDayOfWeek());
+
+        // 해당 시간대 사용자의 해당 요일 알람 조회
+        List<Alarm> alarms = alarmRepository.findAllByDayOfWeek(dayOfWeek, zone.getId());
+
+        if (alarms.isEmpty()) {
+            log.info("{} {}는 예약된 복약 알람이 없습니다.", zone, date);
+            return MaterializationResult.EMPTY;
+        }
+
+        return createRecords(date, alarms);
+    }
+
+    /**
+     * 커서 이후의 알람 한 페이지를 (약 ID, 복용 시간) 순으로 조회하여 기록 생성
+     *
+     * <p>페이지마다 독립 트랜잭션으로 커밋되므로 영속성 컨텍스트가 페이지 크기 이상으로 커지지 않는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PageResult materializePage(
+            ZoneId zone, LocalDate date, RecordCursor cursor, int pageSize) {
+        List<Alarm> alarms = findAlarmPage(zone, date, 0, 1, cursor, pageSize);
+
+        if (alarms.isEmpty()) {
+            return new PageResult(0, 0, cursor, true);
+        }
+
+        long created = createRecords(date, alarms).getRecords();
+
+        return new PageResult(
+                alarms.size(), created, cursorOf(alarms), alarms.size() < pageSize);
+    }
+
+    /** 샤드 점유 시도 (lease 만료 또는 미점유 샤드만 가져올 수 있음) */
+    @Transactional
+    public boolean claimShard(
+            ZoneId zone,
+            LocalDate date,
+            int shardNo,
+            int shardCount,
+            String owner,
+            Duration lease) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return recordMaterializationRunRepository.tryClaim(
+                        date, zone.getId(), shardNo, shardCount, owner, now.plus(lease), now)
+                > 0;
+    }
+
+    /** 샤드를 거치지 않고 처리한 날짜의 모든 샤드를 완료로 기록 */
+    @Transactional
+    public void markDayCompleted(ZoneId zone, LocalDate date, int shardCount) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            recordMaterializationRunRepository.markCompleted(
+                    date, zone.getId(), shardNo, shardCount, now);
+        }
+    }
+
+    /** 기간 내 실행 기록 초기화 (재생성 전) */
+    @Transactional
+    public int resetRuns(LocalDate startDate, LocalDate endDate) {
+        return recordMaterializationRunRepository.resetRuns(
+                startDate, endDate, LocalDateTime.now(clock));
+    }
+
+    /**
+     * 점유한 샤드의 다음 페이지를 처리하고 커서를 같은 트랜잭션에서 저장
+     *
+     * <p>샤드 행을 잠근 채로 처리하므로 처리 중에는 다른 노드가 lease를 가져갈 수 없다.
+     *
+     * @return 처리 결과, 다른 노드에 점유를 빼앗겼거나 이미 완료된 샤드면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PageResult materializeShardPage(
+            ZoneId zone,
+            LocalDate date,
+            int shardNo,
+            String owner,
+            Duration lease,
+            int pageSize) {
+        RecordMaterializationRun run =
+                recordMaterializationRunRepository
+                        .findForUpdate(date, zone.getId(), shardNo)
+                        .orElse(null);
+
+        if (run == null || !run.isOwnedBy(owner)) {
+            return null;
+        }
+
+        RecordCursor cursor =
+                new RecordCursor(run.getCursorMedicationId(), run.getCursorDoseTime());
+        List<Alarm> alarms =
+                findAlarmPage(zone, date, shardNo, run.getShardCount(), cursor, pageSize);
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        if (alarms.isEmpty()) {
+            run.complete(now);
+            return new PageResult(0, 0, cursor, true);
+        }
+
+        long created = createRecords(date, alarms).getRecords();
+        RecordCursor next = cursorOf(alarms);
+        run.advance(next.getMedicationId(), next.getDoseTime(), created, now.plus(lease));
+
+        boolean completed = alarms.size() < pageSize;
+        if (completed) {
+            run.complete(now);
+        }
+
+        return new PageResult(alarms.size(), created, next, completed);
+    }
+
+    private List<Alarm> findAlarmPage(
+            ZoneId zone,
+            LocalDate date,
+            int shardNo,
+            int shardCount,
+            RecordCursor cursor,
+            int pageSize) {
+        return alarmRepository.findPageByDayOfWeekAfter(
+                DayOfWeek.from(date.getDayOfWeek()),
+                zone.getId(),
+                shardNo,
+                shardCount,
+                cursor.getMedicationId(),
+                cursor.getDoseTime(),
+                PageRequest.of(0, pageSize));
+    }
+
+    private RecordCursor cursorOf(List<Alarm> alarms) {
+        Alarm last = alarms.get(alarms.size() - 1);
+        return new RecordCursor(last.getMedication().getId(), last.getDoseTime());
+    }
+
+    /**
+     * 등록일 필터링 및 멱등성 체크 후 기록과 알림 생성
+     *
+     * <p>약 수정 시 알람은 삭제 후 다시 만들어지므로, 지난 날짜를 보충할 때 새 알람 시각으로 기록이 생기지 않도록 알람 등록일도
+     * 함께 확인한다.
+     */
+    private MaterializationResult createRecords(LocalDate date, List<Alarm> alarms) {
+        // 등록일 필터링 (메모리에서 처리)
+        List<Alarm> validAlarms =
+                alarms.stream()
+                        .filter(
+                                alarm -> {
+                                    LocalDate medicationCreatedDate =
+                                            alarm.getMedication().getCreatedAt().toLocalDate();
+                                    if (date.isBefore(medicationCreatedDate)) {
+                                        log.debug(
+                                                "Skipping: 약 등록일 {}이 대상 날짜 {}보다 미래입니다.",
+                                                medicationCreatedDate,
+                                                date);
+                                        return false;
+                                    }
+                                    LocalDate alarmCreatedDate =
+                                            alarm.getCreatedAt().toLocalDate();
+                                    if (date.isBefore(alarmCreatedDate)) {
+                                        log.debug(
+                                                "Skipping: 알람 등록일 {}이 대상 날짜 {}보다 미래입니다.",
+                                                alarmCreatedDate,
+                                                date);
+                                        return false;
+                                    }
+                                    return true;
+                                })
+                        .toList();
+
+        if (validAlarms.isEmpty()) {
+            log.debug("등록일 필터링 후 생성할 알람이 없습니다.");
+            return MaterializationResult.EMPTY;
+        }
+
+        // 기존 기록 일괄 조회 (N+1 문제 해결)
+        List<Long> medicationIds =
+                validAlarms.stream()
+                        .map(alarm -> alarm.getMedication().getId())
+                        .distinct()
+                        .toList();
+
+        LongHashSet existingKeys =
+                medicationRecordRepository.findExistingSlotKeys(date, date, medicationIds);
+
+        // 메모리에서 필터링 및 생성
+        List<MedicationRecord> recordsToSave =
+                validAlarms.stream()
+                        .filter(
+                                alarm -> {
+                                    long key =
+                                            RecordSlotKey.of(
+                                                    alarm.getMedication().getId(),
+                                                    alarm.getDoseTime());
+
+                                    boolean exists = existingKeys.contains(key);
+
+                                    if (exists) {
+                                        log.debug(
+                                                "Skipping: MedicationId={}의 {} 시각에 이미 기록이 존재합니다.",
+                                                alarm.getMedication().getId(),
+                                                alarm.getDoseTime());
+                                    }
+                                    return !exists;
+                                })
+                        .map(
+                                alarm ->
+                                        MedicationRecord.builder()
+                                                .medication(alarm.getMedication())
+                                                .status(MedicationRecordStatus.PENDING)
+                                                .doseTime(alarm.getDoseTime())
+                                                .recordDate(date)
+                                                .build())
+                        .toList();
+
+        if (recordsToSave.isEmpty()) {
+            return MaterializationResult.EMPTY;
+        }
+
+        // DB에 일괄 저장
+        List<MedicationRecord> savedRecords = medicationRecordRepository.saveAll(recordsToSave);
+
+        // 복약 기록 생성 시 알림도 함께 일괄 생성
+        int notifications =
+                notificationService.createNotifications(
+                        medicationNotificationPlanner.plan(savedRecords, date));
+
+        return new MaterializationResult(savedRecords.size(), notifications);
+    }
+
+    /** 키셋 페이지네이션 커서 (마지막으로 처리한 약 ID, 복용 시간) */
+    @Getter
+    @RequiredArgsConstructor
+    public static class RecordCursor {
+        private final Long medicationId;
+        private final LocalTime doseTime;
+
+        public static RecordCursor start() {
+            return new RecordCursor(0L, LocalTime.MIN);
+        }
+    }
+
+    /** 페이지 처리 결과 */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PageResult {
+        private final int fetched;
+        private final long created;
+        private final RecordCursor next;
+        private final boolean completed;
+    }
+}
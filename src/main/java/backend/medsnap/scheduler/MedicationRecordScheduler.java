@@ -1,27 +1,15 @@
 package backend.medsnap.scheduler;
 
-import java.time.Clock;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.time.ZoneId;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import backend.medsnap.domain.alarm.entity.Alarm;
-import backend.medsnap.domain.alarm.entity.DayOfWeek;
-import backend.medsnap.domain.alarm.repository.AlarmRepository;
-import backend.medsnap.domain.medicationRecord.entity.MedicationRecord;
-import backend.medsnap.domain.medicationRecord.entity.MedicationRecordStatus;
-import backend.medsnap.domain.medicationRecord.repository.MedicationRecordRepository;
-import backend.medsnap.domain.notification.dto.request.NotificationCreateRequest;
-import backend.medsnap.domain.notification.repository.NotificationRepository;
-import backend.medsnap.domain.notification.service.NotificationService;
+
+import backend.medsnap.global.time.ZoneClock;
+import backend.medsnap.scheduler.MedicationRecordMaterializer.PageResult;
+import backend.medsnap.scheduler.MedicationRecordMaterializer.RecordCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,222 +18,118 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MedicationRecordScheduler {
 
-    private final MedicationRecordRepository medicationRecordRepository;
-    private final AlarmRepository alarmRepository;
-    private final NotificationService notificationService;
-    private final NotificationRepository notificationRepository;
-    private final Clock clock;
+    private final MedicationRecordMaterializer medicationRecordMaterializer;
+    private final SqlMedicationRecordMaterializer sqlMedicationRecordMaterializer;
+    private final RecordShardCoordinator recordShardCoordinator;
+    private final RecordHorizonMaterializer recordHorizonMaterializer;
+    private final ZoneClock zoneClock;
+
+    // jpa: 알람을 읽어 애플리케이션에서 생성, sql: DB 내부 INSERT ... SELECT로 생성
+    @Value("${scheduler.medication-record.engine:jpa}")
+    private String engine;
+
+    @Value("${scheduler.medication-record.streaming.enabled:false}")
+    private boolean streamingEnabled;
 
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-    @Transactional
+    @Value("${scheduler.medication-record.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * 매분 시간대별로 현지 날짜가 바뀌었는지 확인하여, 아직 처리되지 않은 시간대만 현지 자정 직후 생성
+     *
+     * <p>시간대마다 자정이 다르므로 생성 부하가 하루 전체에 분산된다. 완료 여부는 실행 기록으로 판단한다.
+     */
+    @Scheduled(cron = "0 * * * * *")
     public void createTodayMedicationRecord() {
-        log.info("--- [스케줄러 시작] 오늘 복약 예정 기록 생성 (KST 자정) ---");
+        for (ZoneId zone : recordShardCoordinator.zones()) {
+            LocalDate todayDate = zoneClock.today(zone);
+            if (recordShardCoordinator.isCompleted(zone, todayDate)) {
+                continue;
+            }
 
-        // 오늘 날짜와 요일 확인
-        LocalDate todayDate = LocalDate.now(clock);
-        DayOfWeek todayDayOfWeek = convertJavaToDomain(todayDate.getDayOfWeek());
+            try {
+                createRecords(zone, todayDate);
+            } catch (Exception e) {
+                log.error("복약 예정 기록 생성 중 예외 발생: zone={}, date={}", zone, todayDate, e);
+            }
+        }
+    }
 
-        // 오늘 요일에 해당하는 모든 알람 조회
-        List<Alarm> todayAlarms = alarmRepository.findAllByDayOfWeek(todayDayOfWeek);
+    private void createRecords(ZoneId zone, LocalDate todayDate) {
+        log.info("--- [스케줄러 시작] {} 오늘({}) 복약 예정 기록 생성 ---", zone, todayDate);
 
-        if (todayAlarms.isEmpty()) {
-            log.info("{}는 예약된 복약 알람이 없습니다. 스케줄러 종료.", todayDate);
+        // 다중 인스턴스: 샤드 단위로 나누어 점유한 샤드만 처리
+        // horizon 모드에서는 미리 생성되지 못하고 남은 샤드만 마저 처리
+        if (recordShardCoordinator.isEnabled() || recordHorizonMaterializer.isEnabled()) {
+            recordShardCoordinator.materialize(zone, todayDate);
             return;
         }
 
-        // 멱등성 체크 및 등록일 필터링을 위한 시간 범위 설정
-        LocalDateTime startOfDay = todayDate.atStartOfDay();
-        LocalDateTime endOfDay = todayDate.plusDays(1).atStartOfDay();
-
-        // 등록일 필터링 (메모리에서 처리)
-        List<Alarm> validAlarms =
-                todayAlarms.stream()
-                        .filter(
-                                alarm -> {
-                                    LocalDate medicationCreatedDate =
-                                            alarm.getMedication().getCreatedAt().toLocalDate();
-                                    if (todayDate.isBefore(medicationCreatedDate)) {
-                                        log.debug(
-                                                "Skipping: 약 등록일 {}이 오늘 {}보다 미래입니다.",
-                                                medicationCreatedDate,
-                                                todayDate);
-                                        return false;
-                                    }
-                                    return true;
-                                })
-                        .toList();
-
-        if (validAlarms.isEmpty()) {
-            log.info("등록일 필터링 후 생성할 알람이 없습니다.");
-            return;
+        if ("sql".equalsIgnoreCase(engine)) {
+            sqlMedicationRecordMaterializer.materializeDay(zone, todayDate);
+        } else if (streamingEnabled) {
+            createRecordsByPage(zone, todayDate);
+        } else {
+            createRecordsAtOnce(zone, todayDate);
         }
 
-        // 기존 기록 일괄 조회 (N+1 문제 해결)
-        List<Long> medicationIds =
-                validAlarms.stream()
-                        .map(alarm -> alarm.getMedication().getId())
-                        .distinct()
-                        .toList();
-
-        Set<String> existingKeys =
-                medicationRecordRepository.findExistingRecordKeys(
-                        todayDate, todayDate, medicationIds);
-
-        // 메모리에서 필터링 및 생성
-        List<MedicationRecord> recordsToSave =
-                validAlarms.stream()
-                        .filter(
-                                alarm -> {
-                                    String timeString =
-                                            alarm.getDoseTime()
-                                                    .format(
-                                                            DateTimeFormatter.ofPattern(
-                                                                    "HH:mm:ss"));
-
-                                    String key = alarm.getMedication().getId() + "_" + timeString;
-
-                                    boolean exists = existingKeys.contains(key);
-
-                                    if (exists) {
-                                        log.debug(
-                                                "Skipping: MedicationId={}의 {} 시각에 이미 기록이 존재합니다.",
-                                                alarm.getMedication().getId(),
-                                                alarm.getDoseTime());
-                                    }
-                                    return !exists;
-                                })
-                        .map(
-                                alarm ->
-                                        MedicationRecord.builder()
-                                                .medication(alarm.getMedication())
-                                                .status(MedicationRecordStatus.PENDING)
-                                                .doseTime(alarm.getDoseTime())
-                                                .recordDate(todayDate)
-                                                .build())
-                        .toList();
-
-        // 4. DB에 일괄 저장
-        if (!recordsToSave.isEmpty()) {
-            List<MedicationRecord> savedRecords = medicationRecordRepository.saveAll(recordsToSave);
+        // 다음 tick과 재시작 시 catch-up 대상에서 제외되도록 실행 기록에 완료 표시
+        recordShardCoordinator.markCompleted(zone, todayDate);
+    }
+
+    /** 하루치 알람을 단일 트랜잭션으로 처리 (기본 모드) */
+    private void createRecordsAtOnce(ZoneId zone, LocalDate todayDate) {
+        MaterializationResult result =
+                medicationRecordMaterializer.materializeDay(zone, todayDate);
+        if (result.getRecords() > 0) {
             log.info(
-                    "스케줄링 성공: {}개의 복약 예정 기록 (PENDING)이 {} 날짜로 생성되었습니다.",
-                    savedRecords.size(),
+                    "스케줄링 성공: {}개의 복약 예정 기록 (PENDING)과 {}개의 알림이 {} 날짜로 생성되었습니다.",
+                    result.getRecords(),
+                    result.getNotifications(),
                     todayDate);
-
-            // 복약 기록 생성 시 알림도 함께 생성
-            createNotificationsForRecords(savedRecords, todayDate);
         } else {
             log.info("추가로 생성할 복약 예정 기록이 없습니다. 스케줄러 종료.");
         }
     }
 
-    /** 복약 기록에 대한 알림 생성 */
-    private void createNotificationsForRecords(
-            List<MedicationRecord> records, LocalDate recordDate) {
-        try {
-            for (MedicationRecord record : records) {
-                var medication = record.getMedication();
-                LocalTime doseTime = record.getDoseTime();
-
-                // 알림 예약 시간: 복용 시간에 맞춰 설정
-                LocalDateTime notificationTime = recordDate.atTime(doseTime);
-
-                // 사전 알림이 활성화되어 있다면 10분 전에 알림 생성
-                if (Boolean.TRUE.equals(medication.getPreNotify())) {
-                    LocalDateTime preNotificationTime = notificationTime.minusMinutes(10);
-                    if (preNotificationTime.isAfter(LocalDateTime.now())) {
-                        createMedicationNotification(
-                                medication.getUser().getId(),
-                                medication.getName(),
-                                doseTime,
-                                preNotificationTime,
-                                "메드스냅",
-                                String.format("%s 복용 시간이 10분 남았습니다.", medication.getName()));
-                    }
-                }
-
-                // 정시 알림 생성
-                if (notificationTime.isAfter(LocalDateTime.now(clock))) {
-                    createMedicationNotification(
-                            medication.getUser().getId(),
-                            medication.getName(),
-                            doseTime,
-                            notificationTime,
-                            "메드스냅",
-                            String.format("%s 복용 시간입니다.", medication.getName()));
-                }
+    /** 알람을 키셋 페이지 단위로 순회하며 페이지마다 커밋 (스트리밍 모드) */
+    private void createRecordsByPage(ZoneId zone, LocalDate date) {
+        RecordCursor cursor = RecordCursor.start();
+        int page = 0;
+        long totalFetched = 0;
+        long totalCreated = 0;
+
+        while (true) {
+            PageResult result =
+                    medicationRecordMaterializer.materializePage(zone, date, cursor, pageSize);
+            if (result.getFetched() == 0) {
+                break;
             }
-            log.info("스케줄러: 복약 기록 {}개에 대한 알림 생성 완료", records.size());
-        } catch (Exception e) {
-            log.error("스케줄러: 복약 기록 알림 생성 중 오류 발생", e);
-        }
-    }
 
-    /** 약물 복용 알림 생성 헬퍼 메서드 */
-    private void createMedicationNotification(
-            Long userId,
-            String medicationName,
-            LocalTime doseTime,
-            LocalDateTime scheduledAt,
-            String title,
-            String body) {
-        try {
-            // 과거 시간 필터링 (KST 기준으로 비교)
-            LocalDateTime now = LocalDateTime.now(clock);
-            if (!scheduledAt.isAfter(now)) {
-                log.debug("스케줄러: 과거 알림 건너뜀: 사용자 ID {}, 시간 {}", userId, scheduledAt);
-                return;
-            }
+            page++;
+            totalFetched += result.getFetched();
+            totalCreated += result.getCreated();
+            cursor = result.getNext();
 
-            // 중복 알림 체크 (강화된 키: userId + scheduledAt + title + body)
-            if (notificationRepository.existsByUserIdAndScheduledAtAndTitleAndBody(
-                    userId, scheduledAt, title, body)) {
-                log.debug(
-                        "스케줄러: 중복 알림 건너뜀: 사용자 ID {}, 시간 {}, 제목 {}, 본문 {}",
-                        userId,
-                        scheduledAt,
-                        title,
-                        body);
-                return;
+            log.info(
+                    "스케줄러 진행: {} 페이지 {} - 알람 {}건 처리, 기록 {}건 생성 (누적 알람 {}건, 누적 기록 {}건)",
+                    date,
+                    page,
+                    result.getFetched(),
+                    result.getCreated(),
+                    totalFetched,
+                    totalCreated);
+
+            if (result.getFetched() < pageSize) {
+                break;
             }
-
-            Map<String, Object> data =
-                    Map.of(
-                            "type",
-                            "medication",
-                            "medicationName",
-                            medicationName,
-                            "doseTime",
-                            doseTime.toString(),
-                            "scheduledAt",
-                            scheduledAt.toString());
-
-            NotificationCreateRequest request =
-                    NotificationCreateRequest.builder()
-                            .title(title)
-                            .body(body)
-                            .data(data)
-                            .scheduledAt(scheduledAt)
-                            .build();
-
-            notificationService.createNotification(userId, request);
-            log.debug("스케줄러: 알림 생성 완료: 사용자 ID {}, 약물 {}, 시간 {}", userId, medicationName, doseTime);
-        } catch (Exception e) {
-            log.error(
-                    "스케줄러: 알림 생성 실패: 사용자 ID {}, 약물 {}, 시간 {}", userId, medicationName, doseTime, e);
         }
-    }
 
-    /** Java DayOfWeek를 도메인 DayOfWeek로 변환 */
-    private DayOfWeek convertJavaToDomain(java.time.DayOfWeek javaDayOfWeek) {
-        return switch (javaDayOfWeek) {
-            case MONDAY -> DayOfWeek.MON;
-            case TUESDAY -> DayOfWeek.TUE;
-            case WEDNESDAY -> DayOfWeek.WED;
-            case THURSDAY -> DayOfWeek.THU;
-            case FRIDAY -> DayOfWeek.FRI;
-            case SATURDAY -> DayOfWeek.SAT;
-            case SUNDAY -> DayOfWeek.SUN;
-        };
+        log.info(
+                "스케줄링 성공 (스트리밍): {} 날짜 {}개 페이지, 알람 {}건 처리, 복약 예정 기록 {}건 생성",
+                date,
+                page,
+                totalFetched,
+                totalCreated);
     }
 }
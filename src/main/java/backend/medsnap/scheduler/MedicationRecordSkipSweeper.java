@@ -0,0 +1,56 @@
+package backend.medsnap.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import backend.medsnap.domain.medicationRecord.service.MedicationRecordService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유예 시간이 지난 PENDING 복약 기록을 SKIPPED로 저장하는 스위퍼
+ *
+ * <p>미복용 상태를 조회 시점마다 계산하지 않고 DB에 남겨 달력/통계에서 그대로 조회할 수 있게 한다. 작은 배치 단위로 각각 커밋한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MedicationRecordSkipSweeper {
+
+    private final MedicationRecordService medicationRecordService;
+
+    @Value("${scheduler.medication-record.skip-sweeper.enabled:true}")
+    private boolean sweeperEnabled;
+
+    @Value("${scheduler.medication-record.skip-sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${scheduler.medication-record.skip-sweeper.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${scheduler.medication-record.skip-sweeper.delay-ms:60000}")
+    public void sweepExpiredPending() {
+        if (!sweeperEnabled) {
+            return;
+        }
+
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                // 배치마다 개별 트랜잭션 (프록시 경유)
+                int skipped = medicationRecordService.skipExpiredPendingRecords(batchSize);
+                total += skipped;
+                if (skipped < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("미복용 기록 전환 중 예외 발생", e);
+        }
+
+        if (total > 0) {
+            log.info("유예 시간이 지난 복약 기록 {}건을 SKIPPED로 전환", total);
+        }
+    }
+}
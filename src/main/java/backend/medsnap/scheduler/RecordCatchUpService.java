@@ -0,0 +1,172 @@
+package backend.medsnap.scheduler;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import backend.medsnap.global.exception.BusinessException;
+import backend.medsnap.global.exception.ErrorCode;
+import backend.medsnap.global.time.ZoneClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 중단 등으로 자정 스케줄러가 실행되지 못한 날짜의 복약 기록을 보충 생성
+ *
+ * <p>실행 기록(record_materialization_runs)에서 모든 샤드가 완료되지 않은 날짜를 찾아 날짜 단위로 병렬 처리한다. 각 날짜는 샤드
+ * 페이지 단위로 커밋되므로 날짜 전체를 하나의 트랜잭션으로 잡지 않으며, 중간에 중단되어도 커서 위치부터 이어서 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordCatchUpService {
+
+    private final RecordShardCoordinator recordShardCoordinator;
+    private final ZoneClock zoneClock;
+    private final Clock clock;
+
+    @Value("${scheduler.medication-record.catch-up.enabled:true}")
+    private boolean catchUpEnabled;
+
+    @Value("${scheduler.medication-record.catch-up.lookback-days:7}")
+    private int lookbackDays;
+
+    @Value("${scheduler.medication-record.catch-up.parallelism:2}")
+    private int parallelism;
+
+    @Value("${scheduler.medication-record.catch-up.max-backfill-days:31}")
+    private int maxBackfillDays;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void initExecutor() {
+        AtomicInteger threadNo = new AtomicInteger();
+        executor =
+                Executors.newFixedThreadPool(
+                        Math.max(1, parallelism),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "record-catch-up-" + threadNo.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    /** 애플리케이션 시작 시 최근 기간의 누락된 날짜를 보충 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpOnStartup() {
+        if (!catchUpEnabled) {
+            return;
+        }
+
+        for (ZoneId zone : recordShardCoordinator.zones()) {
+            LocalDate today = zoneClock.today(zone);
+            List<LocalDate> missingDates =
+                    recordShardCoordinator.findIncompleteDates(
+                            zone, catchUpStartDate(zone, today), today);
+
+            if (missingDates.isEmpty()) {
+                log.info("catch-up: {} 최근 {}일 중 누락된 복약 기록 생성일이 없습니다.", zone, lookbackDays);
+                continue;
+            }
+
+            log.info(
+                    "catch-up: {} 누락된 날짜 {}개 보충 시작 - {}",
+                    zone,
+                    missingDates.size(),
+                    missingDates);
+            missingDates.forEach(date -> submit(zone, date));
+        }
+    }
+
+    /**
+     * 관리자 요청으로 기간 내 복약 기록을 다시 생성 (비동기)
+     *
+     * <p>모든 시간대에 대해 이미 완료된 날짜도 실행 기록을 초기화한 뒤 처음부터 다시 처리하며, 이미 존재하는 기록과
+     * 알림은 건너뛴다.
+     *
+     * @return 처리 대상 날짜 수
+     */
+    public int backfill(LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+
+        int reset = recordShardCoordinator.reset(startDate, endDate);
+        List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1)).toList();
+
+        log.info(
+                "backfill: {} ~ {} 복약 기록 재생성 요청 (날짜 {}개, 초기화된 샤드 {}개)",
+                startDate,
+                endDate,
+                dates.size(),
+                reset);
+        for (ZoneId zone : recordShardCoordinator.zones()) {
+            dates.forEach(date -> submit(zone, date));
+        }
+        return dates.size();
+    }
+
+    /**
+     * 보충을 시작할 날짜 (조회 기간 시작일과 해당 시간대의 첫 실행일 중 늦은 날)
+     *
+     * <p>실행 기록이 생기기 전의 날짜는 누락되었는지 알 수 없고, 지금의 알람으로 다시 만들면 이후 수정된 알람 시각으로 지난 기록이
+     * 생기므로 보충하지 않는다. 실행 기록이 전혀 없으면(배포 후 첫 기동, 새 시간대) 오늘만 처리한다.
+     */
+    private LocalDate catchUpStartDate(ZoneId zone, LocalDate today) {
+        LocalDate lookbackStart = today.minusDays(lookbackDays);
+        LocalDate firstRunDate =
+                recordShardCoordinator
+                        .findFirstRunDate(zone)
+                        .filter(date -> !date.isAfter(today))
+                        .orElse(today);
+        return firstRunDate.isAfter(lookbackStart) ? firstRunDate : lookbackStart;
+    }
+
+    private void submit(ZoneId zone, LocalDate date) {
+        executor.submit(
+                () -> {
+                    try {
+                        long created = recordShardCoordinator.materialize(zone, date);
+                        log.info("catch-up: {} {} 날짜 처리 완료 - 기록 {}건 생성", zone, date, created);
+                    } catch (Exception e) {
+                        log.error("catch-up: {} {} 날짜 처리 중 예외 발생", zone, date, e);
+                    }
+                });
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException(
+                    ErrorCode.COMMON_VALIDATION_ERROR, "시작일은 종료일보다 이후일 수 없습니다.");
+        }
+        if (endDate.isAfter(LocalDate.now(clock))) {
+            throw new BusinessException(
+                    ErrorCode.COMMON_VALIDATION_ERROR, "종료일은 오늘 이후일 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxBackfillDays) {
+            throw new BusinessException(
+                    ErrorCode.COMMON_VALIDATION_ERROR,
+                    String.format("한 번에 최대 %d일까지 재생성할 수 있습니다.", maxBackfillDays));
+        }
+    }
+}
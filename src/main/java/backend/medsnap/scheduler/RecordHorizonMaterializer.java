@@ -0,0 +1,76 @@
+package backend.medsnap.scheduler;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import backend.medsnap.global.time.ZoneClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오늘부터 설정된 일수만큼 앞선 날짜의 복약 기록과 알림을 미리 생성 (rolling horizon)
+ *
+ * <p>자정에 하루치를 한 번에 만드는 대신, 짧은 주기마다 정해진 페이지 수만큼만 처리하여 쓰기 부하를 하루 전체로 분산한다.
+ * 진행 상황은 샤드 lease 테이블에 커서로 남으므로 노드가 바뀌어도 이어서 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordHorizonMaterializer {
+
+    private final RecordShardCoordinator recordShardCoordinator;
+    private final ZoneClock zoneClock;
+
+    @Value("${scheduler.medication-record.horizon.enabled:false}")
+    private boolean horizonEnabled;
+
+    @Value("${scheduler.medication-record.horizon.days:7}")
+    private int horizonDays;
+
+    @Value("${scheduler.medication-record.horizon.pages-per-tick:5}")
+    private int pagesPerTick;
+
+    public boolean isEnabled() {
+        return horizonEnabled;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.medication-record.horizon.tick-delay-ms:30000}")
+    public void materializeAhead() {
+        if (!horizonEnabled) {
+            return;
+        }
+
+        int budget = pagesPerTick;
+
+        try {
+            // 가까운 날짜부터 시간대별로 처리 (날짜는 각 시간대의 현지 날짜 기준)
+            for (int i = 0; i < horizonDays && budget > 0; i++) {
+                for (ZoneId zone : recordShardCoordinator.zones()) {
+                    if (budget <= 0) {
+                        break;
+                    }
+
+                    LocalDate date = zoneClock.today(zone).plusDays(i);
+                    if (recordShardCoordinator.isCompleted(zone, date)) {
+                        continue;
+                    }
+
+                    int used = recordShardCoordinator.materializeSlice(zone, date, budget);
+                    budget -= used;
+                    log.debug(
+                            "horizon 처리: {} {} 날짜 {}페이지 처리 (남은 예산 {})",
+                            zone,
+                            date,
+                            used,
+                            budget);
+                }
+            }
+        } catch (Exception e) {
+            log.error("horizon 사전 생성 중 예외 발생", e);
+        }
+    }
+}
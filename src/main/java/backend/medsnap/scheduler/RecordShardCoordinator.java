@@ -0,0 +1,233 @@
+package backend.medsnap.scheduler;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import backend.medsnap.domain.medicationRecord.repository.RecordMaterializationRunRepository;
+import backend.medsnap.domain.user.repository.UserRepository;
+import backend.medsnap.global.cluster.NodeIdentity;
+import backend.medsnap.global.time.ZoneClock;
+import backend.medsnap.scheduler.MedicationRecordMaterializer.PageResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다중 인스턴스 환경에서 하루치 복약 기록 생성을 사용자 ID 기준 샤드로 나누어 분산 처리
+ *
+ * <p>실행 단위는 (시간대, 사용자 시간대 기준 날짜, 샤드)이다. 각 인스턴스는 record_materialization_runs 테이블의 lease로 샤드를 점유하며, lease가 만료된 샤드(죽은 노드의
+ * 샤드)는 다른 인스턴스가 커서 위치부터 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordShardCoordinator {
+
+    private final MedicationRecordMaterializer medicationRecordMaterializer;
+    private final RecordMaterializationRunRepository recordMaterializationRunRepository;
+    private final UserRepository userRepository;
+    private final NodeIdentity nodeIdentity;
+    private final ZoneClock zoneClock;
+
+    @Value("${scheduler.medication-record.sharding.enabled:false}")
+    private boolean shardingEnabled;
+
+    @Value("${scheduler.medication-record.sharding.shard-count:16}")
+    private int shardCount;
+
+    @Value("${scheduler.medication-record.sharding.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${scheduler.medication-record.page-size:1000}")
+    private int pageSize;
+
+    public boolean isEnabled() {
+        return shardingEnabled;
+    }
+
+    /** 처리 대상 시간대 목록 (서버 기본 시간대 + 사용자들이 설정한 시간대, 잘못된 시간대는 제외) */
+    public List<ZoneId> zones() {
+        Set<ZoneId> zones = new LinkedHashSet<>();
+        zones.add(zoneClock.serverZone());
+        for (String timeZone : userRepository.findDistinctTimeZones()) {
+            try {
+                zones.add(ZoneId.of(timeZone));
+            } catch (DateTimeException e) {
+                // 한 사용자의 잘못된 값 때문에 다른 시간대 처리가 중단되지 않도록 건너뜀
+                log.warn("잘못된 사용자 시간대 건너뜀: timeZone={}, error={}", timeZone, e.getMessage());
+            }
+        }
+        return List.copyOf(zones);
+    }
+
+    /** 해당 시간대·날짜의 모든 샤드가 완료되었는지 확인 */
+    public boolean isCompleted(ZoneId zone, LocalDate date) {
+        return recordMaterializationRunRepository.countCompleted(date, zone.getId())
+                >= shardCount;
+    }
+
+    /** 기간 내 해당 시간대에서 아직 완료되지 않은 날짜 목록 (오름차순) */
+    public List<LocalDate> findIncompleteDates(
+            ZoneId zone, LocalDate startDate, LocalDate endDate) {
+        Set<LocalDate> completed =
+                new HashSet<>(
+                        recordMaterializationRunRepository.findCompletedDates(
+                                zone.getId(), startDate, endDate, shardCount));
+        return startDate
+                .datesUntil(endDate.plusDays(1))
+                .filter(date -> !completed.contains(date))
+                .toList();
+    }
+
+    /** 해당 시간대에서 처음으로 실행 기록이 남은 날짜 */
+    public Optional<LocalDate> findFirstRunDate(ZoneId zone) {
+        return Optional.ofNullable(
+                recordMaterializationRunRepository.findFirstRunDate(zone.getId()));
+    }
+
+    /** 샤드를 거치지 않는 엔진으로 처리한 날짜를 완료로 기록 */
+    public void markCompleted(ZoneId zone, LocalDate date) {
+        medicationRecordMaterializer.markDayCompleted(zone, date, shardCount);
+    }
+
+    /** 기간 내 실행 기록을 초기화하여 다시 처리 가능하게 함 */
+    public int reset(LocalDate startDate, LocalDate endDate) {
+        return medicationRecordMaterializer.resetRuns(startDate, endDate);
+    }
+
+    /** 모든 샤드를 순회하며 점유 가능한 샤드를 처리 (점유할 샤드가 없을 때까지 반복) */
+    public long materialize(ZoneId zone, LocalDate date) {
+        String owner = nodeIdentity.getId();
+        // 노드마다 시작 샤드를 다르게 하여 점유 경합을 줄임
+        int offset = Math.floorMod(owner.hashCode(), shardCount);
+        long totalCreated = 0;
+
+        boolean claimedAny = true;
+        while (claimedAny && !isCompleted(zone, date)) {
+            claimedAny = false;
+            for (int i = 0; i < shardCount; i++) {
+                int shardNo = (offset + i) % shardCount;
+                if (!medicationRecordMaterializer.claimShard(
+                        zone, date, shardNo, shardCount, owner, lease())) {
+                    continue;
+                }
+                claimedAny = true;
+                totalCreated += processShard(zone, date, shardNo, owner);
+            }
+        }
+
+        log.info(
+                "샤드 처리 종료: {} {} 날짜, 노드 {}, 이 노드에서 생성한 기록 {}건",
+                zone,
+                date,
+                owner,
+                totalCreated);
+        return totalCreated;
+    }
+
+    /**
+     * 정해진 페이지 수만큼만 처리하고 반환 (시간 분할 처리용)
+     *
+     * <p>처리 중이던 샤드의 lease는 유지되므로 다음 호출 시 같은 노드가 커서 위치부터 이어서 처리한다.
+     *
+     * @return 실제로 처리한 페이지 수
+     */
+    public int materializeSlice(ZoneId zone, LocalDate date, int pageBudget) {
+        String owner = nodeIdentity.getId();
+        int offset = Math.floorMod(owner.hashCode(), shardCount);
+        int used = 0;
+
+        for (int i = 0; i < shardCount && used < pageBudget; i++) {
+            int shardNo = (offset + i) % shardCount;
+            if (!medicationRecordMaterializer.claimShard(
+                    zone, date, shardNo, shardCount, owner, lease())) {
+                continue;
+            }
+
+            while (used < pageBudget) {
+                PageResult result =
+                        medicationRecordMaterializer.materializeShardPage(
+                                zone, date, shardNo, owner, lease(), pageSize);
+                if (result == null) {
+                    break;
+                }
+                used++;
+                if (result.isCompleted()) {
+                    log.debug("샤드 완료: {} {} 날짜 샤드 {}", zone, date, shardNo);
+                    break;
+                }
+            }
+        }
+        return used;
+    }
+
+    /** 죽은 노드가 남긴 샤드(lease 만료)를 주기적으로 회수 */
+    @Scheduled(fixedDelayString = "${scheduler.medication-record.sharding.recovery-delay-ms:60000}")
+    public void recoverOrphanedShards() {
+        if (!shardingEnabled) {
+            return;
+        }
+
+        for (ZoneId zone : zones()) {
+            LocalDate today = zoneClock.today(zone);
+            if (isCompleted(zone, today)) {
+                continue;
+            }
+
+            try {
+                materialize(zone, today);
+            } catch (Exception e) {
+                log.error("미완료 샤드 회수 중 예외 발생: zone={}, date={}", zone, today, e);
+            }
+        }
+    }
+
+    private long processShard(ZoneId zone, LocalDate date, int shardNo, String owner) {
+        long created = 0;
+        int page = 0;
+
+        while (true) {
+            PageResult result =
+                    medicationRecordMaterializer.materializeShardPage(
+                            zone, date, shardNo, owner, lease(), pageSize);
+
+            if (result == null) {
+                log.warn("샤드 점유 상실: {} {} 날짜 샤드 {}, 노드 {}", zone, date, shardNo, owner);
+                break;
+            }
+
+            page++;
+            created += result.getCreated();
+
+            log.info(
+                    "샤드 진행: {} {} 날짜 샤드 {}/{} 페이지 {} - 알람 {}건 처리, 기록 {}건 생성",
+                    zone,
+                    date,
+                    shardNo,
+                    shardCount,
+                    page,
+                    result.getFetched(),
+                    result.getCreated());
+
+            if (result.isCompleted()) {
+                log.info("샤드 완료: {} {} 날짜 샤드 {}, 생성 기록 {}건", zone, date, shardNo, created);
+                break;
+            }
+        }
+        return created;
+    }
+
+    private Duration lease() {
+        return Duration.ofSeconds(leaseSeconds);
+    }
+}
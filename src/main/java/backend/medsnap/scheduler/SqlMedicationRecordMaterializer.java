@@ -0,0 +1,126 @@
+package backend.medsnap.scheduler;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import backend.medsnap.domain.alarm.entity.DayOfWeek;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 내부에서 집합 연산으로 하루치 복약 기록과 알림을 생성하는 엔진
+ *
+ * <p>알람을 애플리케이션으로 읽어오지 않고 INSERT ... SELECT ... ON CONFLICT DO NOTHING 한 문장으로 기록을 만들고, 새로
+ * 생성된 기록에 대해서만 알림을 만든다. 생성 규칙(약/알람 등록일 필터, 사전 알림, 과거 알림 제외)과 시간대 처리(알림 data는 현지
+ * 시각, scheduled_at은 서버 시간대 시각)는 {@link MedicationRecordMaterializer}와 동일하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SqlMedicationRecordMaterializer {
+
+    private static final String MATERIALIZE_DAY_SQL =
+            """
+        WITH new_records AS (
+            INSERT INTO medication_records
+                (medication_id, status, dose_time, record_date, created_at, updated_at)
+            SELECT a.medication_id, 'PENDING', a.dose_time, CAST(:recordDate AS DATE),
+                   CAST(:now AS TIMESTAMP), CAST(:now AS TIMESTAMP)
+            FROM medication_alarms a
+            JOIN medications m ON m.id = a.medication_id
+            JOIN users u ON u.id = m.user_id
+            WHERE a.day_of_week = :dayOfWeek
+            AND u.time_zone = :timeZone
+            AND a.deleted_at IS NULL
+            AND m.deleted_at IS NULL
+            AND CAST(m.created_at AS DATE) <= CAST(:recordDate AS DATE)
+            AND CAST(a.created_at AS DATE) <= CAST(:recordDate AS DATE)
+            ON CONFLICT (medication_id, dose_time, record_date) WHERE deleted_at IS NULL DO NOTHING
+            RETURNING id, medication_id, dose_time, record_date
+        ),
+        slots AS (
+            SELECT nr.id AS record_id, m.user_id, m.name, m.pre_notify, nr.dose_time,
+                   nr.record_date + nr.dose_time AS dose_at
+            FROM new_records nr
+            JOIN medications m ON m.id = nr.medication_id
+        ),
+        local_due AS (
+            SELECT record_id, 'ON_TIME' AS kind, user_id, name, dose_time, dose_at AS local_at,
+                   name || ' 복용 시간입니다.' AS body
+            FROM slots
+            UNION ALL
+            SELECT record_id, 'PRE', user_id, name, dose_time, dose_at - INTERVAL '10 minutes',
+                   name || ' 복용 시간이 10분 남았습니다.'
+            FROM slots
+            WHERE pre_notify
+        ),
+        due AS (
+            SELECT record_id, kind, user_id, name, dose_time, body, local_at,
+                   (local_at AT TIME ZONE :timeZone) AT TIME ZONE :serverZone AS scheduled_at
+            FROM local_due
+        ),
+        new_notifications AS (
+            INSERT INTO notifications
+                (user_id, title, body, data, scheduled_at, dedupe_key, medication_record_id, kind,
+                 status, created_at, updated_at)
+            SELECT user_id, '메드스냅', body,
+                   jsonb_build_object(
+                       'type', 'medication',
+                       'medicationName', name,
+                       'doseTime',
+                       CASE WHEN EXTRACT(SECOND FROM dose_time) = 0
+                            THEN TO_CHAR(dose_time, 'HH24:MI')
+                            ELSE TO_CHAR(dose_time, 'HH24:MI:SS') END,
+                       'scheduledAt',
+                       CASE WHEN EXTRACT(SECOND FROM local_at) = 0
+                            THEN TO_CHAR(local_at, 'YYYY-MM-DD"T"HH24:MI')
+                            ELSE TO_CHAR(local_at, 'YYYY-MM-DD"T"HH24:MI:SS') END),
+                   scheduled_at, notification_dedupe_key(user_id, '메드스냅', body), record_id, kind,
+                   'SCHEDULED', CAST(:now AS TIMESTAMP), CAST(:now AS TIMESTAMP)
+            FROM due
+            WHERE scheduled_at > CAST(:now AS TIMESTAMP)
+            ON CONFLICT DO NOTHING
+            RETURNING id
+        )
+        SELECT (SELECT COUNT(*) FROM new_records) AS records,
+               (SELECT COUNT(*) FROM new_notifications) AS notifications
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    /** 특정 시간대 사용자의 하루치 복약 기록과 알림을 단일 문장으로 생성 */
+    @Transactional
+    public MaterializationResult materializeDay(ZoneId zone, LocalDate date) {
+        MapSqlParameterSource params =
+                new MapSqlParameterSource()
+                        .addValue("recordDate", date)
+                        .addValue("dayOfWeek", DayOfWeek.from(date.getDayOfWeek()).name())
+                        .addValue("timeZone", zone.getId())
+                        .addValue("serverZone", clock.getZone().getId())
+                        .addValue("now", LocalDateTime.now(clock));
+
+        MaterializationResult result =
+                jdbcTemplate.queryForObject(
+                        MATERIALIZE_DAY_SQL,
+                        params,
+                        (rs, rowNum) ->
+                                new MaterializationResult(
+                                        rs.getLong("records"), rs.getLong("notifications")));
+
+        log.info(
+                "SQL 엔진: {} {} 날짜 복약 기록 {}건, 알림 {}건 생성",
+                zone,
+                date,
+                result.getRecords(),
+                result.getNotifications());
+        return result;
+    }
+}
@@ -0,0 +1,125 @@
+-- notifications 테이블을 scheduled_at 기준 월별 RANGE 파티션 테이블로 전환 (1회성, 수동 실행)
+--
+-- 실행 방법
+--   1. 알림을 생성/전송하는 애플리케이션 노드를 모두 내린다.
+--   2. psql -v ON_ERROR_STOP=1 -f notifications_partitioning.sql
+--   3. notification.partition.enabled=true 로 애플리케이션을 기동한다.
+--      (이후 월 파티션 생성과 보관 기간이 지난 파티션의 내보내기/삭제는 NotificationPartitionScheduler가 처리)
+--   4. 데이터를 확인한 뒤 DROP TABLE notifications_legacy;
+--
+-- 파티션 테이블의 PK/유니크 제약은 파티션 키를 포함해야 하므로 PK는 (id, scheduled_at)이 되며,
+-- notifications(id)를 참조하던 FK(notification_tickets.notification_id)는 제거된다.
+
+BEGIN;
+
+LOCK TABLE notifications IN ACCESS EXCLUSIVE MODE;
+
+-- 1. 파티션 키는 NULL일 수 없으므로 예약 시각이 없는(즉시 발송) 과거 알림은 생성 시각으로 채우고,
+--    아직 백필되지 않은 중복 키도 채움 (notification_dedupe_key는 schema.sql에서 생성)
+UPDATE notifications
+SET scheduled_at = COALESCE(created_at, NOW())
+WHERE scheduled_at IS NULL;
+
+UPDATE notifications
+SET dedupe_key = notification_dedupe_key(user_id, title, body)
+WHERE dedupe_key IS NULL;
+
+-- 2. 기존 테이블과 제약/인덱스 이름 정리
+ALTER TABLE notifications RENAME TO notifications_legacy;
+ALTER TABLE notifications_legacy RENAME CONSTRAINT notifications_pkey TO notifications_legacy_pkey;
+ALTER INDEX IF EXISTS ux_notifications_dedupe RENAME TO ux_notifications_legacy_dedupe;
+ALTER INDEX IF EXISTS ux_notifications_dedupe_key RENAME TO ux_notifications_legacy_dedupe_key;
+ALTER INDEX IF EXISTS idx_notifications_dispatching_claim RENAME TO idx_notifications_legacy_dispatching_claim;
+ALTER INDEX IF EXISTS idx_notifications_retry_due RENAME TO idx_notifications_legacy_retry_due;
+ALTER INDEX IF EXISTS idx_notifications_scheduled_due RENAME TO idx_notifications_legacy_scheduled_due;
+ALTER INDEX IF EXISTS idx_notifications_pending_record RENAME TO idx_notifications_legacy_pending_record;
+ALTER INDEX IF EXISTS idx_notifications_pending_user RENAME TO idx_notifications_legacy_pending_user;
+
+-- 3. notifications(id)를 참조하는 FK 제거
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS table_name, conname
+        FROM pg_constraint
+        WHERE contype = 'f' AND confrelid = 'notifications_legacy'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END $$;
+
+-- 4. ID 시퀀스 (PostgreSQL 15의 파티션 테이블은 IDENTITY 컬럼을 지원하지 않으므로 시퀀스 기본값 사용)
+ALTER TABLE notifications_legacy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE notifications_id_seq AS BIGINT;
+SELECT setval('notifications_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM notifications_legacy), false);
+
+-- 5. 파티션 테이블 생성
+CREATE TABLE notifications (LIKE notifications_legacy INCLUDING DEFAULTS)
+    PARTITION BY RANGE (scheduled_at);
+
+ALTER TABLE notifications ALTER COLUMN id SET DEFAULT nextval('notifications_id_seq');
+ALTER SEQUENCE notifications_id_seq OWNED BY notifications.id;
+ALTER TABLE notifications ALTER COLUMN scheduled_at SET NOT NULL;
+ALTER TABLE notifications ALTER COLUMN dedupe_key SET NOT NULL;
+
+ALTER TABLE notifications ADD CONSTRAINT notifications_pkey PRIMARY KEY (id, scheduled_at);
+ALTER TABLE notifications
+    ADD CONSTRAINT ux_notifications_dedupe_key UNIQUE (scheduled_at, dedupe_key);
+ALTER TABLE notifications
+    ADD CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE notifications
+    ADD CONSTRAINT fk_notifications_medication_record FOREIGN KEY (medication_record_id)
+        REFERENCES medication_records (id) ON DELETE SET NULL;
+
+-- 6. 기존 데이터가 있는 월부터 3개월 뒤까지 월 파티션 생성 (범위를 벗어난 시각은 default 파티션)
+DO $$
+DECLARE
+    month_start date;
+    last_month date;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(scheduled_at), NOW()))::date
+    INTO month_start
+    FROM notifications_legacy;
+
+    last_month := (date_trunc('month', NOW()) + INTERVAL '3 months')::date;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+            'notifications_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+-- 7. 데이터 이동
+INSERT INTO notifications SELECT * FROM notifications_legacy;
+
+-- 8. 부분 인덱스 (schema.sql과 동일, 부모에 만들면 모든 파티션에 적용됨)
+CREATE INDEX idx_notifications_scheduled_due
+    ON notifications (scheduled_at, id)
+    WHERE status = 'SCHEDULED';
+
+CREATE INDEX idx_notifications_dispatching_claim
+    ON notifications (claim_expires_at)
+    WHERE status = 'DISPATCHING';
+
+CREATE INDEX idx_notifications_retry_due
+    ON notifications (next_attempt_at)
+    WHERE status = 'RETRY_SCHEDULED';
+
+CREATE INDEX idx_notifications_pending_record
+    ON notifications (medication_record_id)
+    WHERE status IN ('SCHEDULED', 'RETRY_SCHEDULED');
+
+CREATE INDEX idx_notifications_pending_user
+    ON notifications (user_id)
+    WHERE status IN ('SCHEDULED', 'RETRY_SCHEDULED');
+
+COMMIT;
+
+ANALYZE notifications;
@@ -0,0 +1,58 @@
+-- JPA(ddl-auto=update)로 표현할 수 없는 보조 DDL. 애플리케이션 시작 시마다 실행되므로 모든 문장은 멱등이어야 한다.
+
+-- 복약 기록 슬롯 유일성: 소프트딜리트된 기록은 제외하여 같은 슬롯을 다시 만들 수 있게 함 (기존 전체 유니크 제약 대체)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_medication_records_slot
+    ON medication_records (medication_id, dose_time, record_date)
+    WHERE deleted_at IS NULL;
+
+ALTER TABLE medication_records DROP CONSTRAINT IF EXISTS uk_medication_slot_per_day;
+
+-- 미복용(SKIPPED) 전환 스위퍼용 부분 인덱스: 아직 PENDING인 기록만 포함
+CREATE INDEX IF NOT EXISTS idx_medication_records_pending_due
+    ON medication_records (status, record_date, dose_time)
+    WHERE status = 'PENDING' AND deleted_at IS NULL;
+
+-- 시간대별 실행 기록 도입으로 (run_date, shard_no) 유니크 제약을 (run_date, time_zone, shard_no)로 대체
+ALTER TABLE record_materialization_runs DROP CONSTRAINT IF EXISTS uk_record_run_date_shard;
+
+-- 알림 상태에 DISPATCHING 추가: ddl-auto=update는 기존 enum CHECK 제약을 갱신하지 않으므로 제거
+ALTER TABLE notifications DROP CONSTRAINT IF EXISTS notifications_status_check;
+
+-- 점유 만료 알림 회수용 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_notifications_dispatching_claim
+    ON notifications (claim_expires_at)
+    WHERE status = 'DISPATCHING';
+
+-- 재시도 대기(RETRY_SCHEDULED) 알림 점유용 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_notifications_retry_due
+    ON notifications (next_attempt_at)
+    WHERE status = 'RETRY_SCHEDULED';
+
+-- 리시트 확인 대상(PENDING) 티켓 조회용 부분 인덱스: 확인이 끝난 티켓은 인덱스에서 빠짐
+CREATE INDEX IF NOT EXISTS idx_notification_tickets_pending
+    ON notification_tickets (created_at, id)
+    WHERE status = 'PENDING';
+
+-- 발송 대기(SCHEDULED) 알림 점유용 부분 인덱스: 전송이 끝난 알림은 인덱스에서 빠지므로 테이블 크기와 무관
+CREATE INDEX IF NOT EXISTS idx_notifications_scheduled_due
+    ON notifications (scheduled_at, id)
+    WHERE status = 'SCHEDULED';
+
+-- 전송 완료(SENT) 알림을 조회하는 쿼리가 없어 쓰기 비용만 드는 부분 인덱스 제거
+DROP INDEX IF EXISTS idx_notifications_sent;
+
+-- 약/알람 변경 및 탈퇴 시 대기 알림 일괄 취소용 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_notifications_pending_record
+    ON notifications (medication_record_id)
+    WHERE status IN ('SCHEDULED', 'RETRY_SCHEDULED');
+
+CREATE INDEX IF NOT EXISTS idx_notifications_pending_user
+    ON notifications (user_id)
+    WHERE status IN ('SCHEDULED', 'RETRY_SCHEDULED');
+
+-- 알림 중복 키: MD5(user_id␟title␟body)의 앞 8바이트 (NotificationDedupeKey와 같은 값, SQL 엔진/백필에서 사용)
+CREATE OR REPLACE FUNCTION notification_dedupe_key(p_user_id BIGINT, p_title TEXT, p_body TEXT)
+    RETURNS BIGINT
+    LANGUAGE sql
+    IMMUTABLE
+    AS 'SELECT (''x'' || substr(md5(p_user_id::text || chr(31) || p_title || chr(31) || p_body), 1, 16))::bit(64)::bigint';
@@ -0,0 +1,144 @@
+package backend.medsnap.domain.notification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private RateLimiter rateLimiter;
+
+    @AfterEach
+    void tearDown() {
+        if (rateLimiter != null) {
+            rateLimiter.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("32개 스레드가 경합해도 tryAcquire는 설정 속도를 넘지 않는다")
+    void tryAcquireConformsToRateUnderContention() throws Exception {
+        double rate = 200;
+        double burst = 20;
+        int threads = 32;
+        long runNanos = TimeUnit.MILLISECONDS.toNanos(1500);
+
+        // 버킷은 생성 시점에 가득 차 있으므로 생성 전 시각을 기준으로 상한을 계산
+        long createdAt = System.nanoTime();
+        rateLimiter = new RateLimiter(rate, burst);
+
+        AtomicLong granted = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(
+                        () -> {
+                            try {
+                                start.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+                            long deadline = System.nanoTime() + runNanos;
+                            while (System.nanoTime() < deadline) {
+                                if (rateLimiter.tryAcquire(1)) {
+                                    granted.incrementAndGet();
+                                } else {
+                                    Thread.onSpinWait();
+                                }
+                            }
+                        });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        long finishedAt = System.nanoTime();
+
+        double upperBound = burst + rate * (finishedAt - createdAt) / 1e9;
+        double lowerBound = rate * (runNanos / 1e9) * 0.9;
+
+        assertThat((double) granted.get()).isLessThanOrEqualTo(upperBound);
+        assertThat((double) granted.get()).isGreaterThanOrEqualTo(lowerBound);
+    }
+
+    @Test
+    @DisplayName("대기자는 요청 순서대로 토큰을 받고 새 요청은 앞지르지 못한다")
+    void waitersAreServedInFifoOrder() throws Exception {
+        rateLimiter = new RateLimiter(20, 1);
+        assertThat(rateLimiter.tryAcquire(1)).isTrue();
+
+        List<Integer> completionOrder = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int order = i;
+            futures.add(rateLimiter.acquireAsync(1).thenRun(() -> completionOrder.add(order)));
+        }
+
+        // 대기자가 있는 동안에는 즉시 획득 시도가 실패
+        assertThat(rateLimiter.tryAcquire(1)).isFalse();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .get(5, TimeUnit.SECONDS);
+        assertThat(completionOrder).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("취소된 대기자는 토큰을 차감하지 않고 뒤의 대기자를 막지 않는다")
+    void cancelledWaiterDoesNotConsumeTokens() throws Exception {
+        rateLimiter = new RateLimiter(2, 1);
+        assertThat(rateLimiter.tryAcquire(1)).isTrue();
+
+        // 취소되지 않으면 완료 시 토큰 5개를 차감하여 다음 대기자가 2.5초 더 기다리게 됨
+        CompletableFuture<Void> cancelled = rateLimiter.acquireAsync(5);
+        CompletableFuture<Void> next = rateLimiter.acquireAsync(1);
+
+        assertThat(cancelled.cancel(false)).isTrue();
+
+        next.get(1500, TimeUnit.MILLISECONDS);
+        assertThat(cancelled).isCancelled();
+        assertThat(next).isCompleted();
+    }
+
+    @Test
+    @DisplayName("속도를 올리면 대기자가 새 속도로 깨어난다")
+    void updateLimitReschedulesWakeup() throws Exception {
+        rateLimiter = new RateLimiter(0.2, 1);
+        assertThat(rateLimiter.tryAcquire(1)).isTrue();
+
+        // 이전 속도 기준으로는 5초 뒤에 깨어남
+        CompletableFuture<Void> waiter = rateLimiter.acquireAsync(1);
+        rateLimiter.updateLimit(100);
+
+        waiter.get(1, TimeUnit.SECONDS);
+        assertThat(waiter).isCompleted();
+    }
+
+    @Test
+    @DisplayName("즉시 획득과 대기 획득은 같은 기준으로 수요를 집계한다")
+    void requestedPermitsCountBothPaths() {
+        rateLimiter = new RateLimiter(1, 1);
+
+        assertThat(rateLimiter.tryAcquire(1)).isTrue();
+        assertThat(rateLimiter.tryAcquire(2)).isFalse();
+        CompletableFuture<Void> waiter = rateLimiter.acquireAsync(3);
+
+        assertThat(rateLimiter.takeRequestedPermits()).isEqualTo(6);
+        assertThat(rateLimiter.takeRequestedPermits()).isZero();
+        waiter.cancel(false);
+    }
+}
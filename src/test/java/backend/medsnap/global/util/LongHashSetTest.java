@@ -0,0 +1,100 @@
+package backend.medsnap.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import backend.medsnap.domain.medicationRecord.util.RecordSlotKey;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("여러 번 확장된 뒤에도 추가한 키는 모두 찾고 추가하지 않은 키는 찾지 않는다")
+    void addAndContainsAcrossResize() {
+        LongHashSet set = new LongHashSet(4);
+        int count = 10_000;
+
+        for (long i = 1; i <= count; i++) {
+            assertThat(set.add(i * 7919)).isTrue();
+            assertThat(set.add(-i)).isTrue();
+        }
+
+        assertThat(set.size()).isEqualTo(count * 2);
+        for (long i = 1; i <= count; i++) {
+            assertThat(set.contains(i * 7919)).isTrue();
+            assertThat(set.contains(-i)).isTrue();
+            assertThat(set.contains(i * 7919 + 1)).isFalse();
+        }
+        assertThat(set.contains(-(count + 1L))).isFalse();
+        assertThat(set.contains(Long.MAX_VALUE)).isFalse();
+        assertThat(set.contains(Long.MIN_VALUE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 슬롯 표시로 쓰는 0도 일반 키처럼 추가하고 찾는다")
+    void zeroKey() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.isEmpty()).isTrue();
+
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.isEmpty()).isFalse();
+
+        // 확장 후에도 0은 유지
+        for (long i = 1; i <= 100; i++) {
+            set.add(i);
+        }
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.size()).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("이미 있는 키를 다시 추가하면 false를 반환하고 크기가 변하지 않는다")
+    void duplicateAdds() {
+        LongHashSet set = new LongHashSet(4);
+        for (long i = 1; i <= 1_000; i++) {
+            set.add(i);
+        }
+
+        for (long i = 1; i <= 1_000; i++) {
+            assertThat(set.add(i)).isFalse();
+        }
+        assertThat(set.add(Long.MIN_VALUE)).isTrue();
+        assertThat(set.add(Long.MIN_VALUE)).isFalse();
+        assertThat(set.size()).isEqualTo(1_001);
+    }
+
+    @Test
+    @DisplayName("자정(00:00:00)과 23:59:59 슬롯 키는 이웃한 약의 키와 겹치지 않는다")
+    void recordSlotKeysAtDayBoundaries() {
+        LocalTime midnight = LocalTime.MIDNIGHT;
+        LocalTime lastSecond = LocalTime.of(23, 59, 59);
+        LongHashSet set = new LongHashSet();
+
+        for (long medicationId = 0; medicationId < 1_000; medicationId++) {
+            long first = RecordSlotKey.of(medicationId, midnight);
+            long last = RecordSlotKey.of(medicationId, lastSecond);
+
+            assertThat(last).isGreaterThan(first);
+            assertThat(RecordSlotKey.of(medicationId + 1, midnight)).isGreaterThan(last);
+            assertThat(set.add(first)).isTrue();
+            assertThat(set.add(last)).isTrue();
+        }
+
+        assertThat(set.size()).isEqualTo(2_000);
+        // 약 ID 0의 자정 슬롯은 키 0이 됨
+        assertThat(RecordSlotKey.of(0, midnight)).isZero();
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(RecordSlotKey.of(999, lastSecond))).isTrue();
+        assertThat(set.contains(RecordSlotKey.of(1_000, midnight))).isFalse();
+        assertThat(set.contains(RecordSlotKey.of(500, LocalTime.NOON))).isFalse();
+    }
+}